@@ -0,0 +1,40 @@
+package com.jobtracker.jobtracker.benchmarks;
+
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.service.ServiceAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping done once per row of every application list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ApplicationMappingBenchmark {
+
+    private Application application;
+
+    @Setup
+    public void setUp() {
+        application = Fixtures.application(0);
+    }
+
+    @Benchmark
+    public ApplicationResponse mapToResponse() {
+        return ServiceAccess.mapToResponse(application);
+    }
+}
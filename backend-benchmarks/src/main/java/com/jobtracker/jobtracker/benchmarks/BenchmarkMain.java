@@ -0,0 +1,24 @@
+package com.jobtracker.jobtracker.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry point of {@code benchmarks.jar}: the JMH command line, writing
+ * results to {@code jmh-result.json} unless a result format or file is
+ * given. Any JMH option works, e.g. {@code java -jar benchmarks.jar Jwt -f 1}.
+ */
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(Arrays.asList(args));
+        if (!arguments.contains("-rf") && !arguments.contains("-rff")) {
+            arguments.addAll(List.of("-rf", "json", "-rff", "jmh-result.json"));
+        }
+        org.openjdk.jmh.Main.main(arguments.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobtracker.jobtracker.benchmarks;
+
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.model.WorkMode;
+import org.springframework.util.ReflectionUtils;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Deterministic inputs shared by the benchmarks, shaped like a typical row:
+ * every optional field filled in.
+ */
+public final class Fixtures {
+
+    public static final String EMAIL = "jane.doe@example.com";
+
+    private static final String[] COMPANIES = {"Google", "Spotify", "Wise", "Bolt", "Pipedrive", "Veriff", "Monzo"};
+    private static final String[] TITLES = {"Software Engineer", "Backend Developer", "Platform Engineer", "SRE"};
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 9, 30);
+
+    private Fixtures() {
+    }
+
+    public static Application application(int index) {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail(EMAIL);
+
+        Application application = new Application();
+        application.setId((long) index + 1);
+        application.setUser(user);
+        application.setCompanyName(COMPANIES[index % COMPANIES.length]);
+        application.setPositionTitle(TITLES[index % TITLES.length]);
+        application.setLocation("Tallinn, Estonia");
+        application.setWorkMode(WorkMode.values()[index % WorkMode.values().length]);
+        application.setApplicationSource("LinkedIn");
+        application.setJobPostingUrl("https://jobs.example.com/postings/" + index);
+        application.setSalaryMin(4_000);
+        application.setSalaryMax(6_000);
+        application.setStatus(ApplicationStatus.values()[index % ApplicationStatus.values().length]);
+        application.setApplicationDate(CREATED_AT.toLocalDate().plusDays(index % 90));
+        application.setNextStepDate(CREATED_AT.toLocalDate().plusDays(index % 90 + 7));
+        application.setCreatedAt(CREATED_AT.plusHours(index));
+        application.setUpdatedAt(CREATED_AT.plusHours(index + 1));
+        return application;
+    }
+
+    public static ApplicationRequest applicationRequest() {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCompanyName("Acme");
+        request.setPositionTitle("Backend Engineer");
+        request.setLocation("Tallinn, Estonia");
+        request.setWorkMode(WorkMode.HYBRID);
+        request.setJobPostingUrl("https://jobs.example.com/postings/1");
+        request.setSalaryMin(4_000);
+        request.setSalaryMax(6_000);
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setApplicationDate(LocalDate.of(2025, 3, 1));
+        return request;
+    }
+
+    /** Sets a field Spring would inject with {@code @Value}. */
+    public static void inject(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
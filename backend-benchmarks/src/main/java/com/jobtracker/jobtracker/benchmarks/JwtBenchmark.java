@@ -0,0 +1,49 @@
+package com.jobtracker.jobtracker.benchmarks;
+
+import com.jobtracker.jobtracker.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issuing a token at login and reading it back on every authenticated
+ * request, including the {@code jwt.sign}/{@code jwt.verify} timers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JwtBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(new SimpleMeterRegistry());
+        Fixtures.inject(jwtService, "secret", "benchmark-secret-key-that-is-at-least-256-bits-long");
+        Fixtures.inject(jwtService, "expiration", 3_600_000L);
+        token = jwtService.generateToken(Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(Fixtures.EMAIL);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtService.extractEmail(token);
+    }
+}
@@ -0,0 +1,54 @@
+package com.jobtracker.jobtracker.benchmarks;
+
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.service.ServiceAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON encoding of {@code GET /api/applications} bodies from a single row
+ * up to a heavy user's list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SerializationBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<ApplicationResponse> applications;
+
+    @Setup
+    public void setUp() {
+        writer = JsonMapper.builder().build().writerFor(new TypeReference<List<ApplicationResponse>>() {});
+        applications = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            applications.add(ServiceAccess.mapToResponse(Fixtures.application(i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeApplicationList() {
+        return writer.writeValueAsBytes(applications);
+    }
+}
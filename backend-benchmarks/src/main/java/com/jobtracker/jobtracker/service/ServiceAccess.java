@@ -0,0 +1,19 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.model.Application;
+
+/**
+ * The one place the benchmarks reach into the service package, whose
+ * mappers are package-private. Benchmarks call through here so they measure
+ * the code the API runs, not a copy of it.
+ */
+public final class ServiceAccess {
+
+    private ServiceAccess() {
+    }
+
+    public static ApplicationResponse mapToResponse(Application application) {
+        return ApplicationService.mapToResponse(application);
+    }
+}
@@ -0,0 +1,129 @@
+package com.jobtracker.jobtracker.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.event.ApplicationChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, per-user cache of application read models.
+ *
+ * Entries are evicted as soon as a change is published and again once the
+ * surrounding transaction commits, so a read that raced the write cannot
+ * leave the pre-commit state behind.
+ *
+ * A miss is loaded by the calling thread after its pending entry is in the
+ * cache, not inside the cache's entry lock: an eviction, which writers run
+ * while holding a connection, never waits for a load that may itself be
+ * waiting for a connection. Concurrent readers of the same key share the one
+ * load.
+ *
+ * Responses are mutable, so every read, the loading one included, gets its
+ * own copy and the cached instances never leave this class.
+ */
+@Component
+public class ApplicationCache {
+
+    private final AsyncCache<ListKey, List<ApplicationResponse>> lists;
+    private final AsyncCache<DetailKey, ApplicationResponse> details;
+
+    public ApplicationCache(
+            @Value("${cache.applications.max-entries:50000}") long maxEntries,
+            @Value("${cache.applications.expire-after-write:10m}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        // Lists are weighed by their length so one large account cannot pin the whole budget.
+        this.lists = Caffeine.newBuilder()
+                .maximumWeight(maxEntries)
+                .<ListKey, List<ApplicationResponse>>weigher((key, list) -> Math.max(1, list.size()))
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, lists, "applications.list");
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "applications.detail");
+    }
+
+    // -- Lookups -------------------------------------------------------
+
+    public List<ApplicationResponse> getAll(String email, boolean withNoteSummary,
+                                            Supplier<List<ApplicationResponse>> loader) {
+        return load(lists, new ListKey(email, withNoteSummary), loader).stream()
+                .map(ApplicationResponse::copy)
+                .toList();
+    }
+
+    public ApplicationResponse get(Long id, String email, Supplier<ApplicationResponse> loader) {
+        return load(details, new DetailKey(email, id), loader).copy();
+    }
+
+    private static <K, V> V load(AsyncCache<K, V> cache, K key, Supplier<V> loader) {
+        CompletableFuture<V> pending = new CompletableFuture<>();
+        CompletableFuture<V> future = cache.get(key, (k, executor) -> pending);
+        if (future == pending) {
+            try {
+                pending.complete(loader.get());
+            } catch (RuntimeException | Error ex) {
+                // Failed entries are dropped by the cache; waiting readers see the same exception
+                pending.completeExceptionally(ex);
+                throw ex;
+            }
+        }
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    // -- Invalidation --------------------------------------------------
+
+    public void evictApplication(String email, Long applicationId) {
+        evictLists(email);
+        details.synchronous().invalidate(new DetailKey(email, applicationId));
+    }
+
+    public void evictOwner(String email) {
+        evictLists(email);
+        details.asMap().keySet().removeIf(key -> key.email().equals(email));
+    }
+
+    public void evictAll() {
+        lists.synchronous().invalidateAll();
+        details.synchronous().invalidateAll();
+    }
+
+    private void evictLists(String email) {
+        lists.synchronous().invalidate(new ListKey(email, false));
+        lists.synchronous().invalidate(new ListKey(email, true));
+    }
+
+    @EventListener
+    public void onApplicationChanged(ApplicationChangedEvent event) {
+        evictApplication(event.getEmail(), event.getApplicationId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onApplicationChangeCommitted(ApplicationChangedEvent event) {
+        evictApplication(event.getEmail(), event.getApplicationId());
+    }
+
+    private record ListKey(String email, boolean withNoteSummary) {}
+
+    private record DetailKey(String email, Long id) {}
+}
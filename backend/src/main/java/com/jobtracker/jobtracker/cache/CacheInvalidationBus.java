@@ -0,0 +1,271 @@
+package com.jobtracker.jobtracker.cache;
+
+import com.jobtracker.jobtracker.event.ApplicationChangedEvent;
+import com.jobtracker.jobtracker.event.EntityChangedEvent;
+import com.jobtracker.jobtracker.push.ChangeStream;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Propagates application cache invalidations and change stream events to
+ * every backend instance through Postgres LISTEN/NOTIFY.
+ *
+ * Committed changes are queued per owner and flushed in batches, so a burst
+ * of writes for one user becomes a single notification. Change events go out
+ * on a second channel in commit order and are handed to the other nodes'
+ * {@link ChangeStream}, so a client streaming from any node hears about every
+ * write. Each node holds one listening connection outside the pool. Whenever
+ * that connection is re-established it drops its whole local cache and asks
+ * open streams to resync, because notifications sent while it was down are
+ * lost.
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheInvalidationBus implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final long INITIAL_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final ApplicationCache applicationCache;
+    private final ChangeStream changeStream;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcConnectionDetails connectionDetails;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final String changeChannel;
+    private final Duration flushInterval;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> pendingOwners = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedDeque<EntityChangedEvent> pendingChanges = new ConcurrentLinkedDeque<>();
+
+    private volatile boolean running;
+    private ScheduledExecutorService flusher;
+    private Thread listener;
+
+    public CacheInvalidationBus(ApplicationCache applicationCache,
+                                ChangeStream changeStream,
+                                JdbcTemplate jdbcTemplate,
+                                JdbcConnectionDetails connectionDetails,
+                                ObjectMapper objectMapper,
+                                @Value("${cache.invalidation.channel:application_cache}") String channel,
+                                @Value("${cache.invalidation.change-channel:change_stream}") String changeChannel,
+                                @Value("${cache.invalidation.flush-interval:50ms}") Duration flushInterval) {
+        for (String name : List.of(channel, changeChannel)) {
+            if (!name.matches("[a-z_][a-z0-9_]*")) {
+                throw new IllegalArgumentException("Invalid cache invalidation channel: " + name);
+            }
+        }
+        if (channel.equals(changeChannel)) {
+            throw new IllegalArgumentException("Cache invalidations and change events need separate channels");
+        }
+        this.applicationCache = applicationCache;
+        this.changeStream = changeStream;
+        this.jdbcTemplate = jdbcTemplate;
+        this.connectionDetails = connectionDetails;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.changeChannel = changeChannel;
+        this.flushInterval = flushInterval;
+    }
+
+    // -- Publishing ----------------------------------------------------
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApplicationChangeCommitted(ApplicationChangedEvent event) {
+        pendingOwners.add(event.getEmail());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntityChangeCommitted(EntityChangedEvent event) {
+        pendingChanges.add(event);
+    }
+
+    void flush() {
+        flushOwners();
+        flushChanges();
+    }
+
+    private void flushOwners() {
+        if (pendingOwners.isEmpty()) {
+            return;
+        }
+        List<String> owners = new ArrayList<>();
+        for (Iterator<String> it = pendingOwners.iterator(); it.hasNext(); ) {
+            owners.add(it.next());
+            it.remove();
+        }
+        try {
+            for (String payload : InvalidationMessage.encode(objectMapper, nodeId, owners)) {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+            }
+        } catch (DataAccessException ex) {
+            // Keep the owners queued; the next tick retries them.
+            pendingOwners.addAll(owners);
+            log.warn("Failed to publish cache invalidations for {} owners", owners.size(), ex);
+        }
+    }
+
+    private void flushChanges() {
+        List<EntityChangedEvent> changes = new ArrayList<>();
+        for (EntityChangedEvent change; (change = pendingChanges.poll()) != null; ) {
+            changes.add(change);
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        try {
+            for (String payload : ChangeMessage.encode(objectMapper, nodeId, changes)) {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", changeChannel, payload);
+            }
+        } catch (DataAccessException ex) {
+            // Back at the front, in order, for the next tick; payloads that did go out are sent again
+            changes.reversed().forEach(pendingChanges::addFirst);
+            log.warn("Failed to publish {} change events", changes.size(), ex);
+        }
+    }
+
+    // -- Listening -----------------------------------------------------
+
+    private void listen() {
+        long backoff = INITIAL_BACKOFF_MS;
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(connectionDetails.getJdbcUrl(),
+                    connectionDetails.getUsername(), connectionDetails.getPassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                    statement.execute("LISTEN " + changeChannel);
+                }
+                applicationCache.evictAll();
+                if (reconnecting) {
+                    changeStream.resyncAll();
+                }
+                reconnecting = true;
+                backoff = INITIAL_BACKOFF_MS;
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (notification.getName().equals(changeChannel)) {
+                                applyChanges(notification.getParameter());
+                            } else {
+                                apply(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener disconnected, retrying in {} ms", backoff, ex);
+                if (!sleep(backoff)) {
+                    return;
+                }
+                backoff = Math.min(backoff * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void apply(String payload) {
+        InvalidationMessage message;
+        try {
+            message = InvalidationMessage.decode(objectMapper, payload);
+        } catch (JacksonException ex) {
+            // A node on another version; without knowing whose entries went stale, drop them all
+            log.warn("Evicting the whole cache for an unreadable invalidation", ex);
+            applicationCache.evictAll();
+            return;
+        }
+        if (!nodeId.equals(message.sender())) {
+            message.owners().forEach(applicationCache::evictOwner);
+        }
+    }
+
+    private void applyChanges(String payload) {
+        ChangeMessage message;
+        try {
+            message = ChangeMessage.decode(objectMapper, payload);
+        } catch (JacksonException ex) {
+            // A node on another version; its clients resync on their next reconnect
+            log.warn("Ignoring unreadable change notification", ex);
+            return;
+        }
+        if (!nodeId.equals(message.sender())) {
+            message.events().forEach(changeStream::onEntityChanged);
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // -- Lifecycle -----------------------------------------------------
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("cache-invalidation-flusher").daemon().factory());
+        flusher.scheduleWithFixedDelay(this::flush,
+                flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        listener = Thread.ofPlatform().name("cache-invalidation-listener").daemon().start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            listener.join(POLL_TIMEOUT_MS * 2);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,40 @@
+package com.jobtracker.jobtracker.cache;
+
+import com.jobtracker.jobtracker.event.EntityChangedEvent;
+import com.jobtracker.jobtracker.model.SyncEntityType;
+import tools.jackson.databind.ObjectMapper;
+import java.util.List;
+
+/**
+ * Wire format of a change event notification: a JSON object with the sending
+ * node's id and the changes in commit order, split into payloads like an
+ * {@link InvalidationMessage}.
+ */
+record ChangeMessage(String sender, List<Change> changes) {
+
+    static List<String> encode(ObjectMapper mapper, String nodeId, List<EntityChangedEvent> events) {
+        List<Change> changes = events.stream().map(Change::of).toList();
+        return InvalidationMessage.encode(mapper, changes, batch -> new ChangeMessage(nodeId, batch));
+    }
+
+    static ChangeMessage decode(ObjectMapper mapper, String payload) {
+        return mapper.readValue(payload, ChangeMessage.class);
+    }
+
+    List<EntityChangedEvent> events() {
+        return changes.stream().map(Change::toEvent).toList();
+    }
+
+    record Change(long sequence, SyncEntityType type, Long entityId, Long applicationId, boolean deleted,
+                  String email) {
+
+        static Change of(EntityChangedEvent event) {
+            return new Change(event.getSequence(), event.getEntityType(), event.getEntityId(),
+                    event.getApplicationId(), event.isDeleted(), event.getEmail());
+        }
+
+        EntityChangedEvent toEvent() {
+            return new EntityChangedEvent(email, type, entityId, applicationId, deleted, sequence);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.jobtracker.jobtracker.cache;
+
+import tools.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Wire format of a cache invalidation notification: a JSON object with the
+ * sending node's id and the owner emails to evict. Emails are user input,
+ * so every field goes through the mapper instead of being joined with
+ * separators. {@link ChangeMessage} is split into payloads the same way.
+ */
+record InvalidationMessage(String sender, List<String> owners) {
+
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more.
+    static final int MAX_PAYLOAD_BYTES = 7900;
+
+    static List<String> encode(ObjectMapper mapper, String nodeId, Collection<String> owners) {
+        return encode(mapper, owners, batch -> new InvalidationMessage(nodeId, batch));
+    }
+
+    static InvalidationMessage decode(ObjectMapper mapper, String payload) {
+        return mapper.readValue(payload, InvalidationMessage.class);
+    }
+
+    /**
+     * Serializes {@code items} into as few messages as fit below
+     * {@link #MAX_PAYLOAD_BYTES}, in order. An item too large on its own
+     * still gets a message of its own, which Postgres then rejects.
+     */
+    static <T> List<String> encode(ObjectMapper mapper, Collection<T> items, Function<List<T>, ?> message) {
+        int envelopeBytes = utf8Length(mapper.writeValueAsString(message.apply(List.of())));
+        List<String> payloads = new ArrayList<>();
+        List<T> batch = new ArrayList<>();
+        int bytes = envelopeBytes;
+        for (T item : items) {
+            // Plus the comma in front of it
+            int itemBytes = utf8Length(mapper.writeValueAsString(item)) + 1;
+            if (bytes + itemBytes > MAX_PAYLOAD_BYTES && !batch.isEmpty()) {
+                payloads.add(mapper.writeValueAsString(message.apply(batch)));
+                batch = new ArrayList<>();
+                bytes = envelopeBytes;
+            }
+            batch.add(item);
+            bytes += itemBytes;
+        }
+        if (!batch.isEmpty()) {
+            payloads.add(mapper.writeValueAsString(message.apply(batch)));
+        }
+        return payloads;
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
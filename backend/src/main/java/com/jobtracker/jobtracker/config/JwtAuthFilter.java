@@ -1,7 +1,10 @@
 package com.jobtracker.jobtracker.config;
 
+import com.jobtracker.jobtracker.diagnostics.RequestStage;
 import com.jobtracker.jobtracker.service.CustomUserDetailsService;
 import com.jobtracker.jobtracker.service.JwtService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,10 +21,13 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     private final CustomUserDetailsService userDetailsService;
+    private final ObservationRegistry observationRegistry;
 
-    public JwtAuthFilter(JwtService jwtService, CustomUserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtService jwtService, CustomUserDetailsService userDetailsService,
+                         ObservationRegistry observationRegistry) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.observationRegistry = observationRegistry;
     }
 
     @Override
@@ -37,10 +43,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         String token = authHeader.substring(7);
+        Observation.createNotStarted(RequestStage.AUTH.observationName(), observationRegistry)
+                .contextualName("jwt authentication")
+                .observe(() -> authenticate(token, request));
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token, HttpServletRequest request) {
         String email = jwtService.extractEmail(token);
 
         if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            UserDetails userDetails = Observation.createNotStarted(RequestStage.USER_LOOKUP.observationName(),
+                            observationRegistry)
+                    .contextualName("user lookup")
+                    .observe(() -> userDetailsService.loadUserByUsername(email));
 
             if (jwtService.isTokenValid(token, email)) {
                 UsernamePasswordAuthenticationToken authToken =
@@ -50,7 +67,5 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 SecurityContextHolder.getContext().setAuthentication(authToken);
             }
         }
-
-        filterChain.doFilter(request, response);
     }
 }
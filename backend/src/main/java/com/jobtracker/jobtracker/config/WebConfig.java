@@ -0,0 +1,25 @@
+package com.jobtracker.jobtracker.config;
+
+import com.jobtracker.jobtracker.diagnostics.QueryBudgetInterceptor;
+import com.jobtracker.jobtracker.diagnostics.ServerTimingAdvice;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ServerTimingAdvice serverTimingAdvice;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+
+    public WebConfig(ServerTimingAdvice serverTimingAdvice, QueryBudgetInterceptor queryBudgetInterceptor) {
+        this.serverTimingAdvice = serverTimingAdvice;
+        this.queryBudgetInterceptor = queryBudgetInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetInterceptor);
+        registry.addInterceptor(serverTimingAdvice);
+    }
+}
@@ -1,6 +1,7 @@
 package com.jobtracker.jobtracker.controller;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,15 +11,22 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.diagnostics.QueryBudget;
 import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.projection.ApplicationField;
+import com.jobtracker.jobtracker.projection.FieldSelection;
 import com.jobtracker.jobtracker.service.ApplicationService;
 
 import jakarta.validation.Valid;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -30,30 +38,71 @@ public class ApplicationController {
         this.applicationService = applicationService;
     }
 
+    @QueryBudget(2)
     @GetMapping
-    public ResponseEntity<List<ApplicationResponse>> getAll(Authentication authentication) {
+    public ResponseEntity<List<ApplicationResponse>> getAll(
+                @RequestParam(defaultValue = "") Set<String> include, Authentication authentication) {
         String email = authentication.getName();
+        if (include.contains("noteSummary")) {
+            return ResponseEntity.ok(applicationService.getAllApplicationsWithNoteSummary(email));
+        }
         return ResponseEntity.ok(applicationService.getAllApplications(email));
     }
 
+    @QueryBudget(2)
+    @GetMapping(params = {"fields", "stream!=true"})
+    public ResponseEntity<List<Map<String, Object>>> getAllFields(
+                @RequestParam String fields, Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(applicationService.getAllApplications(email, fields));
+    }
+
+    // Rows go out as they are read, so large accounts do not build the whole list in memory
+    @QueryBudget(2)
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> getAllStreamed(
+                @RequestParam(required = false) String fields, Authentication authentication) {
+        String email = authentication.getName();
+        FieldSelection<ApplicationField> selection = applicationService.selectStreamFields(fields);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> applicationService.writeAllApplications(email, selection, out));
+    }
+
+    @QueryBudget(2)
     @GetMapping("/{id}")
-    public ResponseEntity<ApplicationResponse> getById(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<ApplicationResponse> getById(
+                @PathVariable Long id, @RequestParam(defaultValue = "") Set<String> include, Authentication authentication) {
         String email = authentication.getName();
+        if (include.contains("notes")) {
+            return ResponseEntity.ok(applicationService.getApplicationWithNotes(id, email));
+        }
         return ResponseEntity.ok(applicationService.getApplicationById(id, email));
     }
 
+    @QueryBudget(2)
+    @GetMapping(path = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getByIdFields(
+                @PathVariable Long id, @RequestParam String fields, Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(applicationService.getApplicationById(id, email, fields));
+    }
+
+    @QueryBudget(4)
     @PostMapping
     public ResponseEntity<ApplicationResponse> create(@Valid @RequestBody ApplicationRequest request, Authentication authentication) {
         String email = authentication.getName();
         return ResponseEntity.status(HttpStatus.CREATED).body(applicationService.createApplication(request, email));
     }
 
+    @QueryBudget(4)
     @PutMapping("/{id}")
     public ResponseEntity<ApplicationResponse> update(@PathVariable Long id, @Valid @RequestBody ApplicationRequest request, Authentication authentication) {
         String email = authentication.getName();
         return ResponseEntity.ok(applicationService.updateApplication(id, request, email));
     }
 
+    @QueryBudget(4)
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id, Authentication authentication) {
         String email = authentication.getName();
@@ -0,0 +1,38 @@
+package com.jobtracker.jobtracker.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jobtracker.jobtracker.diagnostics.QueryBudget;
+import com.jobtracker.jobtracker.diagnostics.QueryBudgetInterceptor;
+import com.jobtracker.jobtracker.dto.BatchRequest;
+import com.jobtracker.jobtracker.dto.BatchResponse;
+import com.jobtracker.jobtracker.service.BatchService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/batch")
+public class BatchController {
+
+    private final BatchService batchService;
+
+    public BatchController(BatchService batchService) {
+        this.batchService = batchService;
+    }
+
+    // The user lookup and the change feed write are shared; each operation runs its own statements
+    @QueryBudget(value = 4, perItem = 3)
+    @PostMapping
+    public ResponseEntity<BatchResponse> execute(@Valid @RequestBody BatchRequest request, Authentication authentication,
+                                                 HttpServletRequest httpRequest) {
+        QueryBudgetInterceptor.countItems(httpRequest, request.getOperations().size());
+        String email = authentication.getName();
+        return ResponseEntity.ok(batchService.execute(request, email));
+    }
+}
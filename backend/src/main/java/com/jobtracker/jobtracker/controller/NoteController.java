@@ -2,10 +2,14 @@ package com.jobtracker.jobtracker.controller;
 
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import com.jobtracker.jobtracker.diagnostics.QueryBudget;
+import com.jobtracker.jobtracker.dto.NotePageResponse;
 import com.jobtracker.jobtracker.dto.NoteRequest;
 import com.jobtracker.jobtracker.dto.NoteResponse;
+import com.jobtracker.jobtracker.dto.NoteRevisionResponse;
 import com.jobtracker.jobtracker.service.NoteService;
 import java.util.List;
+import java.util.Map;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +20,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RestController
 @RequestMapping("/api/applications/{applicationId}/notes")
@@ -27,18 +32,59 @@ public class NoteController {
         this.noteService = noteService;
     }
 
+    @QueryBudget(3)
     @GetMapping
-    public ResponseEntity<List<NoteResponse>> getAll(@PathVariable Long applicationId, Authentication authentication) {
+    public ResponseEntity<NotePageResponse<NoteResponse>> getAll(
+                @PathVariable Long applicationId,
+                @RequestParam(required = false) String cursor,
+                @RequestParam(defaultValue = "20") int limit,
+                Authentication authentication) {
         String email = authentication.getName();
-        return ResponseEntity.ok(noteService.getAllNotes(applicationId, email));
+        return ResponseEntity.ok(noteService.getNotes(applicationId, cursor, limit, email));
+    }
+
+    @QueryBudget(3)
+    @GetMapping(params = "fields")
+    public ResponseEntity<NotePageResponse<Map<String, Object>>> getAllFields(
+                @PathVariable Long applicationId,
+                @RequestParam(required = false) String cursor,
+                @RequestParam(defaultValue = "20") int limit,
+                @RequestParam String fields,
+                Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(noteService.getNotes(applicationId, cursor, limit, fields, email));
+    }
+
+    @QueryBudget(2)
+    @GetMapping("/{noteId}")
+    public ResponseEntity<NoteResponse> getById(@PathVariable Long applicationId, @PathVariable Long noteId, Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(noteService.getNote(applicationId, noteId, email));
     }
     
+    @QueryBudget(3)
+    @GetMapping("/{noteId}/revisions")
+    public ResponseEntity<List<NoteRevisionResponse>> getRevisions(@PathVariable Long applicationId, @PathVariable Long noteId, Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(noteService.getRevisions(applicationId, noteId, email));
+    }
+
+    @QueryBudget(3)
+    @GetMapping("/{noteId}/revisions/{revision}")
+    public ResponseEntity<NoteRevisionResponse> getRevision(
+                @PathVariable Long applicationId, @PathVariable Long noteId, @PathVariable int revision, Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(noteService.getRevision(applicationId, noteId, revision, email));
+    }
+
+    @QueryBudget(4)
     @PostMapping
     public ResponseEntity<NoteResponse> create(@PathVariable Long applicationId, @Valid @RequestBody NoteRequest request, Authentication authentication) {
         String email = authentication.getName();
         return ResponseEntity.status(HttpStatus.CREATED).body(noteService.createNote(applicationId, request, email));
     }
 
+    @QueryBudget(4)
     @PutMapping("/{noteId}")
     public ResponseEntity<NoteResponse> update(
                 @PathVariable Long applicationId, @PathVariable Long noteId, @Valid @RequestBody NoteRequest request, Authentication authentication) {
@@ -46,6 +92,7 @@ public class NoteController {
         return ResponseEntity.ok(noteService.updateNote(applicationId, noteId, request, email));
     }
 
+    @QueryBudget(3)
     @DeleteMapping("/{noteId}")
     public ResponseEntity<Void> delete(@PathVariable Long applicationId, @PathVariable Long noteId, Authentication authentication) {
         String email = authentication.getName();
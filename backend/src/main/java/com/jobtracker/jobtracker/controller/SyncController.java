@@ -0,0 +1,45 @@
+package com.jobtracker.jobtracker.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jobtracker.jobtracker.dto.SyncResponse;
+import com.jobtracker.jobtracker.push.ChangeStream;
+import com.jobtracker.jobtracker.service.SyncService;
+
+@RestController
+@RequestMapping("/api/sync")
+public class SyncController {
+
+    private final SyncService syncService;
+    private final ChangeStream changeStream;
+
+    public SyncController(SyncService syncService, ChangeStream changeStream) {
+        this.syncService = syncService;
+        this.changeStream = changeStream;
+    }
+
+    @GetMapping
+    public ResponseEntity<SyncResponse> getChanges(
+                @RequestParam(required = false) Long since,
+                @RequestParam(defaultValue = "500") int limit,
+                Authentication authentication) {
+        String email = authentication.getName();
+        return ResponseEntity.ok(syncService.getChanges(since, limit, email));
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+                @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+                Authentication authentication) {
+        String email = authentication.getName();
+        return changeStream.subscribe(email, lastEventId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * The most SQL statements one request to this endpoint may run, including
+ * the user lookup during authentication. Endpoints without it get
+ * {@code sql.query-budget.default}.
+ *
+ * An endpoint that takes a list of items adds {@link #perItem()} statements
+ * for each item it reports through {@link QueryBudgetInterceptor#countItems}.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface QueryBudget {
+
+    int value();
+
+    int perItem() default 0;
+}
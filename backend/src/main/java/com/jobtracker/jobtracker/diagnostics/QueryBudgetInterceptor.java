@@ -0,0 +1,73 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Applies the handler's {@link QueryBudget}, or the default, to the request
+ * and warns when a completed request went over it. Statements run before the
+ * handler is known (authentication) count towards the budget too. Handlers
+ * with a per-item budget raise it by {@link #countItems} once they know how
+ * many items the request has.
+ */
+@Component
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetInterceptor.class);
+    private static final String BUDGET_ATTRIBUTE = QueryBudget.class.getName();
+
+    private final int defaultBudget;
+
+    public QueryBudgetInterceptor(@Value("${sql.query-budget.default:10}") int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTimings timings = timingsOf(request);
+        if (timings != null) {
+            QueryBudget budget = handler instanceof HandlerMethod method
+                    ? method.getMethodAnnotation(QueryBudget.class)
+                    : null;
+            timings.limitStatements(budget != null ? budget.value() : defaultBudget);
+            request.setAttribute(BUDGET_ATTRIBUTE, budget);
+        }
+        return true;
+    }
+
+    /**
+     * Adds the handler's {@link QueryBudget#perItem()} for each of the
+     * request's {@code items} to its budget.
+     */
+    public static void countItems(HttpServletRequest request, int items) {
+        RequestTimings timings = timingsOf(request);
+        if (timings != null && request.getAttribute(BUDGET_ATTRIBUTE) instanceof QueryBudget budget) {
+            timings.limitStatements(budget.value() + budget.perItem() * items);
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestTimings timings = timingsOf(request);
+        if (timings != null && timings.isOverBudget()) {
+            log.warn("{} {} ran {} SQL statements, over its budget of {}", request.getMethod(),
+                    request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                    timings.statements(), timings.statementBudget());
+        }
+    }
+
+    private static RequestTimings timingsOf(HttpServletRequest request) {
+        return ServerHttpObservationFilter.findObservationContext(request)
+                .map(context -> context.<RequestTimings>get(RequestTimings.class))
+                .orElse(null);
+    }
+}
@@ -0,0 +1,70 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps every Spring Data repository call in a {@code repository.query}
+ * observation, which becomes a span, a timer tagged with the repository and
+ * method, and the {@code db} stage of the request's timings.
+ */
+@Component
+public class RepositoryObservationPostProcessor implements BeanPostProcessor {
+
+    // Resolved on first call: post-processors are created before the beans they would depend on
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+
+    public RepositoryObservationPostProcessor(ObjectProvider<ObservationRegistry> observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, information) -> proxyFactory.addAdvice(
+                            new ObservingInterceptor(information.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    /**
+     * Starts a query observation for one repository; shared by
+     * {@link com.jobtracker.jobtracker.repository.FieldProjectionRepository}.
+     */
+    public static Observation queryObservation(ObservationRegistry registry, String repository, String method) {
+        return Observation.createNotStarted(RequestStage.QUERY.observationName(), registry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method);
+    }
+
+    private final class ObservingInterceptor implements MethodInterceptor {
+
+        private final String repository;
+
+        private ObservingInterceptor(String repository) {
+            this.repository = repository;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            Observation observation = queryObservation(observationRegistry.getObject(), repository,
+                    invocation.getMethod().getName()).start();
+            try (Observation.Scope scope = observation.openScope()) {
+                return invocation.proceed();
+            } catch (Throwable ex) {
+                observation.error(ex);
+                throw ex;
+            } finally {
+                observation.stop();
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The observed stages of a request, each reported under a short name in
+ * {@code Server-Timing} and the access log.
+ */
+public enum RequestStage {
+
+    AUTH("auth.token", "auth"),
+    USER_LOOKUP("auth.user.lookup", "user"),
+    QUERY("repository.query", "db"),
+    SERIALIZE("http.serialize", "serialize");
+
+    private static final Map<String, RequestStage> BY_OBSERVATION = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(RequestStage::observationName, Function.identity()));
+
+    private final String observationName;
+    private final String metricName;
+
+    RequestStage(String observationName, String metricName) {
+        this.observationName = observationName;
+        this.metricName = metricName;
+    }
+
+    public String observationName() {
+        return observationName;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+
+    static RequestStage ofObservation(String name) {
+        return name != null ? BY_OBSERVATION.get(name) : null;
+    }
+}
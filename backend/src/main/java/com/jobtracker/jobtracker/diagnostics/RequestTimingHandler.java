@@ -0,0 +1,91 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+
+/**
+ * Adds up the stage observations of each request on its
+ * {@code http.server.requests} observation and writes one access log line
+ * when the request completes. The line carries its fields as key-value
+ * pairs, so structured console logging emits them as JSON fields.
+ */
+@Component
+public class RequestTimingHandler implements ObservationHandler<Observation.Context> {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext
+                || RequestStage.ofObservation(context.getName()) != null;
+    }
+
+    @Override
+    public void onStart(Observation.Context context) {
+        if (context instanceof ServerRequestObservationContext) {
+            context.put(RequestTimings.class, new RequestTimings(System.nanoTime()));
+        } else {
+            context.put(StartTime.class, new StartTime(System.nanoTime()));
+        }
+    }
+
+    @Override
+    public void onStop(Observation.Context context) {
+        long now = System.nanoTime();
+        if (context instanceof ServerRequestObservationContext request) {
+            RequestTimings timings = request.get(RequestTimings.class);
+            if (timings != null && accessLog.isInfoEnabled()) {
+                log(request, timings, now);
+            }
+            return;
+        }
+        RequestTimings timings = timingsOf(context);
+        StartTime start = context.get(StartTime.class);
+        if (timings != null && start != null) {
+            timings.record(RequestStage.ofObservation(context.getName()), now - start.nanos());
+        }
+    }
+
+    /**
+     * The timings of the request a stage ran in, or null outside a request
+     * (background jobs, startup).
+     */
+    static RequestTimings timingsOf(Observation.ContextView context) {
+        for (Observation.ContextView current = context; current != null; ) {
+            if (current instanceof ServerRequestObservationContext request) {
+                return request.get(RequestTimings.class);
+            }
+            current = current.getParentObservation() != null
+                    ? current.getParentObservation().getContextView()
+                    : null;
+        }
+        return null;
+    }
+
+    private static void log(ServerRequestObservationContext request, RequestTimings timings, long now) {
+        String method = request.getCarrier().getMethod();
+        String path = request.getCarrier().getRequestURI();
+        int status = request.getResponse() != null ? request.getResponse().getStatus() : 0;
+        Map<String, Object> fields = timings.toLogFields(now);
+        LoggingEventBuilder event = accessLog.atInfo()
+                .addKeyValue("method", method)
+                .addKeyValue("path", path)
+                .addKeyValue("uri", request.getPathPattern() != null ? request.getPathPattern() : "UNKNOWN")
+                .addKeyValue("status", status);
+        fields.forEach(event::addKeyValue);
+        TracingObservationHandler.TracingContext tracing = request.get(TracingObservationHandler.TracingContext.class);
+        if (tracing != null && tracing.getSpan() != null) {
+            event.addKeyValue("traceId", tracing.getSpan().context().traceId());
+        }
+        event.log("{} {} {} {} ms", method, path, status, fields.get("durationMs"));
+    }
+
+    private record StartTime(long nanos) {}
+}
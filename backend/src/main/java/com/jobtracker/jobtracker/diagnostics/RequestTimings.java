@@ -0,0 +1,123 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Time spent in each {@link RequestStage} of one request. Stages overlap
+ * where the work does: the user lookup runs inside authentication and is
+ * itself a query. SQL statements are counted separately from repository
+ * calls, since one call can run many of them.
+ */
+public final class RequestTimings {
+
+    private final long startNanos;
+    private final AtomicLongArray nanos = new AtomicLongArray(RequestStage.values().length);
+    private final AtomicLongArray counts = new AtomicLongArray(RequestStage.values().length);
+    private final AtomicLong statementNanos = new AtomicLong();
+    private final AtomicInteger statements = new AtomicInteger();
+    private volatile int statementBudget = Integer.MAX_VALUE;
+    private volatile long firstByteNanos;
+
+    RequestTimings(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    void record(RequestStage stage, long durationNanos) {
+        nanos.addAndGet(stage.ordinal(), durationNanos);
+        counts.incrementAndGet(stage.ordinal());
+    }
+
+    /**
+     * Adds one executed JDBC statement and returns how many the request has
+     * run so far.
+     */
+    int recordStatement(long durationNanos) {
+        statementNanos.addAndGet(durationNanos);
+        return statements.incrementAndGet();
+    }
+
+    int statements() {
+        return statements.get();
+    }
+
+    int statementBudget() {
+        return statementBudget;
+    }
+
+    void limitStatements(int budget) {
+        statementBudget = budget;
+    }
+
+    boolean isOverBudget() {
+        return statements.get() > statementBudget;
+    }
+
+    /**
+     * Marks the moment the response body starts to be written; everything
+     * before it is reported as {@code app}.
+     */
+    void markFirstByte(long nowNanos) {
+        firstByteNanos = nowNanos - startNanos;
+    }
+
+    long count(RequestStage stage) {
+        return counts.get(stage.ordinal());
+    }
+
+    /**
+     * The {@code Server-Timing} value for what has happened so far. The body
+     * is not written yet, so serialization is left to the access log.
+     */
+    String toServerTiming() {
+        StringBuilder header = new StringBuilder();
+        for (RequestStage stage : RequestStage.values()) {
+            long count = count(stage);
+            if (stage == RequestStage.SERIALIZE || count == 0) {
+                continue;
+            }
+            header.append(stage.metricName()).append(";dur=").append(millis(nanos.get(stage.ordinal())));
+            if (stage == RequestStage.QUERY) {
+                header.append(";desc=\"").append(count).append(count == 1 ? " query\"" : " queries\"");
+            }
+            header.append(", ");
+        }
+        int statementCount = statements();
+        if (statementCount > 0) {
+            header.append("sql;dur=").append(millis(statementNanos.get()))
+                    .append(";desc=\"").append(statementCount)
+                    .append(statementCount == 1 ? " statement\", " : " statements\", ");
+        }
+        return header.append("app;dur=").append(millis(firstByteNanos)).toString();
+    }
+
+    /**
+     * Stage durations in milliseconds for the access log, ending with the
+     * whole request.
+     */
+    Map<String, Object> toLogFields(long endNanos) {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        for (RequestStage stage : RequestStage.values()) {
+            if (count(stage) > 0) {
+                fields.put(stage.metricName() + "Ms", millis(nanos.get(stage.ordinal())));
+            }
+        }
+        if (count(RequestStage.QUERY) > 0) {
+            fields.put("queries", count(RequestStage.QUERY));
+        }
+        if (statements() > 0) {
+            fields.put("sqlMs", millis(statementNanos.get()));
+            fields.put("statements", statements());
+        }
+        fields.put("durationMs", millis(endNanos - startNanos));
+        return fields;
+    }
+
+    // Tenths of a millisecond, enough to rank stages without implying false precision
+    private static double millis(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sends the request's timings so far as a {@code Server-Timing} header and
+ * observes the body write that follows. The header has to go out before the
+ * body, so responses without one (204s, streams) only show up in the access
+ * log.
+ */
+@ControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object>, HandlerInterceptor {
+
+    static final String HEADER = "Server-Timing";
+    private static final String SERIALIZATION = ServerTimingAdvice.class.getName() + ".serialization";
+
+    private final ObservationRegistry observationRegistry;
+    private final boolean headerEnabled;
+
+    public ServerTimingAdvice(ObservationRegistry observationRegistry,
+                              @Value("${server-timing.enabled:true}") boolean headerEnabled) {
+        this.observationRegistry = observationRegistry;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+                                  Class<? extends HttpMessageConverter<?>> converterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        RequestTimings timings = ServerHttpObservationFilter.findObservationContext(httpRequest)
+                .map(context -> context.<RequestTimings>get(RequestTimings.class))
+                .orElse(null);
+        if (timings != null) {
+            timings.markFirstByte(System.nanoTime());
+            if (headerEnabled) {
+                response.getHeaders().add(HEADER, timings.toServerTiming());
+            }
+        }
+        Observation serialization = Observation.createNotStarted(RequestStage.SERIALIZE.observationName(),
+                        observationRegistry)
+                .contextualName("serialize " + (contentType != null ? contentType.getSubtype() : "body"))
+                .lowCardinalityKeyValue("content.type", contentType != null ? contentType.getSubtype() : "none")
+                .start();
+        httpRequest.setAttribute(SERIALIZATION, serialization);
+        return body;
+    }
+
+    /**
+     * Runs once the handler adapter has written the body.
+     */
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(SERIALIZATION) instanceof Observation serialization) {
+            request.removeAttribute(SERIALIZATION);
+            if (ex != null) {
+                serialization.error(ex);
+            }
+            serialization.stop();
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import com.jobtracker.jobtracker.exception.QueryBudgetExceededException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Times every JDBC statement by wrapping the {@link DataSource}. Repository
+ * observations cannot do this: one repository call may run several
+ * statements, or none when Hibernate answers it from the persistence
+ * context. Each execution is added to the current request's
+ * {@link RequestTimings}, and executions slower than
+ * {@code sql.slow-threshold} are logged with the types of their bind
+ * parameters, never the values.
+ *
+ * A request that runs more statements than its {@link QueryBudget} fails on
+ * the first statement over it when {@code sql.query-budget.fail} is set, as
+ * tests do; otherwise {@link QueryBudgetInterceptor} warns once it
+ * completes.
+ *
+ * {@link StatementListener}s see every execution with its bound values, on
+ * the thread that ran it. Values are only kept while a listener is
+ * registered.
+ */
+@Component
+public class StatementMonitor implements BeanPostProcessor {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("sql.slow");
+    private static final int MAX_SQL_LENGTH = 1000;
+
+    // Resolved on first call: post-processors are created before the beans they would depend on
+    private final ObjectProvider<ObservationRegistry> observationRegistry;
+    private final long slowThresholdNanos;
+    private final boolean failOverBudget;
+    private final List<StatementListener> listeners = new CopyOnWriteArrayList<>();
+
+    public StatementMonitor(ObjectProvider<ObservationRegistry> observationRegistry,
+                            @Value("${sql.slow-threshold:200ms}") Duration slowThreshold,
+                            @Value("${sql.query-budget.fail:false}") boolean failOverBudget) {
+        this.observationRegistry = observationRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.failOverBudget = failOverBudget;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof MonitoredDataSource)) {
+            return new MonitoredDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * Receives each executed statement, after it ran. A batch is reported
+     * once, with the values of its last row.
+     */
+    @FunctionalInterface
+    public interface StatementListener {
+        void executed(String sql, List<Object> parameters);
+    }
+
+    /**
+     * Stands in for a value bound with {@code setNull}, keeping its SQL type
+     * so the statement can be bound again.
+     */
+    public record NullParameter(int sqlType) {}
+
+    public void addListener(StatementListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(StatementListener listener) {
+        listeners.remove(listener);
+    }
+
+    void executed(String sql, String parameters, List<Object> values, long durationNanos) {
+        for (StatementListener listener : listeners) {
+            listener.executed(sql, values);
+        }
+        if (durationNanos >= slowThresholdNanos && slowLog.isWarnEnabled()) {
+            double millis = Math.round(durationNanos / 100_000.0) / 10.0;
+            slowLog.atWarn()
+                    .addKeyValue("durationMs", millis)
+                    .addKeyValue("parameters", parameters)
+                    .log("Slow SQL statement ({} ms): {} {}", millis, truncate(sql), parameters);
+        }
+        RequestTimings timings = currentTimings();
+        if (timings == null) {
+            return;
+        }
+        int statements = timings.recordStatement(durationNanos);
+        if (failOverBudget && statements > timings.statementBudget()) {
+            throw new QueryBudgetExceededException(statements, timings.statementBudget(), truncate(sql));
+        }
+    }
+
+    private RequestTimings currentTimings() {
+        Observation current = observationRegistry.getObject().getCurrentObservation();
+        return current != null ? RequestTimingHandler.timingsOf(current.getContextView()) : null;
+    }
+
+    private static String truncate(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    // -- JDBC proxies ----------------------------------------------------
+
+    private final class MonitoredDataSource extends DelegatingDataSource {
+
+        private MonitoredDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return monitored(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return monitored(super.getConnection(username, password));
+        }
+
+        private Connection monitored(Connection connection) {
+            return proxy(Connection.class, new ConnectionHandler(connection));
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            Object result = delegate(target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement and prepareCall fix the SQL now, createStatement passes it to execute
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return proxy(method.getReturnType(), new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final List<String> parameterTypes = new ArrayList<>();
+        private final List<Object> parameterValues = new ArrayList<>();
+        private int batchSize;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object identity = identity(proxy, method, args);
+            if (identity != null) {
+                return identity;
+            }
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = preparedSql != null ? preparedSql
+                        : args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                long start = System.nanoTime();
+                Object result = delegate(target, method, args);
+                executed(sql, describeParameters(), boundValues(), System.nanoTime() - start);
+                if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                    batchSize = 0;
+                }
+                return result;
+            }
+            // Parameter setters take an index and a value; statement settings take a single argument
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordParameter(index, name, args[1]);
+            } else if (name.equals("addBatch") && preparedSql != null) {
+                batchSize++;
+            } else if (name.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (name.equals("clearParameters")) {
+                parameterTypes.clear();
+                parameterValues.clear();
+            }
+            return delegate(target, method, args);
+        }
+
+        private void recordParameter(int index, String setter, Object value) {
+            String type = switch (setter) {
+                case "setNull" -> "null";
+                case "setObject" -> value != null ? value.getClass().getSimpleName() : "null";
+                default -> setter.substring(3);
+            };
+            while (parameterTypes.size() < index) {
+                parameterTypes.add("?");
+            }
+            parameterTypes.set(index - 1, type);
+            if (!listeners.isEmpty()) {
+                while (parameterValues.size() < index) {
+                    parameterValues.add(null);
+                }
+                parameterValues.set(index - 1, setter.equals("setNull") ? new NullParameter((Integer) value) : value);
+            }
+        }
+
+        private List<Object> boundValues() {
+            return listeners.isEmpty() ? List.of() : Collections.unmodifiableList(new ArrayList<>(parameterValues));
+        }
+
+        private String describeParameters() {
+            String types = "(" + String.join(", ", parameterTypes) + ")";
+            return batchSize > 1 ? types + " x " + batchSize : types;
+        }
+    }
+
+    // -- Helpers ---------------------------------------------------------
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    /**
+     * Answers {@code equals} and {@code hashCode} for the proxy itself, so a
+     * wrapped connection or statement equals only itself.
+     */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> args != null && args.length == 1 ? proxy == args[0] : null;
+            case "hashCode" -> args == null || args.length == 0 ? System.identityHashCode(proxy) : null;
+            default -> null;
+        };
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+}
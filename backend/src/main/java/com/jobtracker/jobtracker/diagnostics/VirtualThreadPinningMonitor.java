@@ -0,0 +1,99 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Reports code that pins a virtual thread to its carrier.
+ *
+ * On Java 21 a virtual thread that blocks inside a {@code synchronized}
+ * block or under a native frame cannot unmount, so it holds one of the few
+ * carrier threads for the whole wait and every other request queues behind
+ * it. The JVM records such waits as {@code jdk.VirtualThreadPinned} events;
+ * this streams them and logs each distinct call site once, with its stack.
+ * How often and how long threads pin is exported separately as
+ * {@code jvm.threads.virtual.pinned}.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int MAX_FRAMES = 16;
+
+    private final Duration threshold;
+    private final Map<String, LongAdder> sites = new ConcurrentHashMap<>();
+
+    private volatile boolean running;
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${threads.pinning.threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    void onPinned(RecordedEvent event) {
+        String site = describe(event.getStackTrace());
+        LongAdder count = sites.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        if (count.sum() == 1) {
+            log.warn("Virtual thread pinned its carrier for {} ms at:\n{}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private static String describe(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "\tat <no stack trace>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        // Lambda classes are hidden and named per instance, so they would split one site into many
+        return frames.stream()
+                .filter(frame -> !frame.getMethod().isHidden())
+                .limit(MAX_FRAMES)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""))
+                .collect(Collectors.joining("\n"));
+    }
+
+    Map<String, Long> pinnedSites() {
+        return sites.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().sum()));
+    }
+
+    // -- Lifecycle -----------------------------------------------------
+
+    @Override
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stream.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
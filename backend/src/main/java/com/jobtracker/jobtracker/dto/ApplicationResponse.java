@@ -2,6 +2,9 @@ package com.jobtracker.jobtracker.dto;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.jobtracker.jobtracker.model.ApplicationStatus;
 import com.jobtracker.jobtracker.model.WorkMode;
 
@@ -22,6 +25,41 @@ public class ApplicationResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<NoteResponse> notes;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long noteCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String latestNotePreview;
+
+    /**
+     * A copy that shares no mutable state with this one: the notes list is
+     * copied, its elements are not.
+     */
+    public ApplicationResponse copy() {
+        ApplicationResponse copy = new ApplicationResponse();
+        copy.id = id;
+        copy.companyName = companyName;
+        copy.positionTitle = positionTitle;
+        copy.location = location;
+        copy.workMode = workMode;
+        copy.applicationSource = applicationSource;
+        copy.jobPostingUrl = jobPostingUrl;
+        copy.salaryMin = salaryMin;
+        copy.salaryMax = salaryMax;
+        copy.status = status;
+        copy.applicationDate = applicationDate;
+        copy.nextStepDate = nextStepDate;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.notes = notes != null ? new ArrayList<>(notes) : null;
+        copy.noteCount = noteCount;
+        copy.latestNotePreview = latestNotePreview;
+        return copy;
+    }
+
     public Long getId() {
         return id;
     }
@@ -106,4 +144,22 @@ public class ApplicationResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    public List<NoteResponse> getNotes() {
+        return notes;
+    }
+    public void setNotes(List<NoteResponse> notes) {
+        this.notes = notes;
+    }
+    public Long getNoteCount() {
+        return noteCount;
+    }
+    public void setNoteCount(Long noteCount) {
+        this.noteCount = noteCount;
+    }
+    public String getLatestNotePreview() {
+        return latestNotePreview;
+    }
+    public void setLatestNotePreview(String latestNotePreview) {
+        this.latestNotePreview = latestNotePreview;
+    }
 }
@@ -0,0 +1,8 @@
+package com.jobtracker.jobtracker.dto;
+
+public enum BatchMode {
+    // All operations commit together or not at all; the batch stops at the first failure
+    ATOMIC,
+    // Every operation commits on its own; failures do not affect the others
+    INDEPENDENT
+}
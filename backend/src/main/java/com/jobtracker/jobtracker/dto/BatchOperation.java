@@ -0,0 +1,69 @@
+package com.jobtracker.jobtracker.dto;
+
+import jakarta.validation.constraints.NotNull;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * One operation of a batch. Applications and notes are addressed either by id
+ * or, when created earlier in the same batch, by the {@code tempId} the
+ * creating operation declared ({@code applicationRef} / {@code noteRef}).
+ */
+public class BatchOperation {
+
+    @NotNull(message = "Operation type is required")
+    private BatchOperationType op;
+
+    private Long applicationId;
+    private String applicationRef;
+    private Long noteId;
+    private String noteRef;
+
+    // Label for the entity a create operation produces
+    private String tempId;
+
+    // ApplicationRequest or NoteRequest, depending on the operation
+    private JsonNode body;
+
+    public BatchOperationType getOp() {
+        return op;
+    }
+    public void setOp(BatchOperationType op) {
+        this.op = op;
+    }
+    public Long getApplicationId() {
+        return applicationId;
+    }
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+    public String getApplicationRef() {
+        return applicationRef;
+    }
+    public void setApplicationRef(String applicationRef) {
+        this.applicationRef = applicationRef;
+    }
+    public Long getNoteId() {
+        return noteId;
+    }
+    public void setNoteId(Long noteId) {
+        this.noteId = noteId;
+    }
+    public String getNoteRef() {
+        return noteRef;
+    }
+    public void setNoteRef(String noteRef) {
+        this.noteRef = noteRef;
+    }
+    public String getTempId() {
+        return tempId;
+    }
+    public void setTempId(String tempId) {
+        this.tempId = tempId;
+    }
+    public JsonNode getBody() {
+        return body;
+    }
+    public void setBody(JsonNode body) {
+        this.body = body;
+    }
+}
@@ -0,0 +1,10 @@
+package com.jobtracker.jobtracker.dto;
+
+public enum BatchOperationType {
+    CREATE_APPLICATION,
+    UPDATE_APPLICATION,
+    DELETE_APPLICATION,
+    CREATE_NOTE,
+    UPDATE_NOTE,
+    DELETE_NOTE
+}
@@ -0,0 +1,30 @@
+package com.jobtracker.jobtracker.dto;
+
+import java.util.List;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public class BatchRequest {
+
+    public static final int MAX_OPERATIONS = 200;
+
+    private BatchMode mode = BatchMode.ATOMIC;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = MAX_OPERATIONS, message = "At most " + MAX_OPERATIONS + " operations per batch")
+    private List<@Valid BatchOperation> operations;
+
+    public BatchMode getMode() {
+        return mode;
+    }
+    public void setMode(BatchMode mode) {
+        this.mode = mode;
+    }
+    public List<BatchOperation> getOperations() {
+        return operations;
+    }
+    public void setOperations(List<BatchOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,25 @@
+package com.jobtracker.jobtracker.dto;
+
+import java.util.List;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+public class BatchResponse {
+
+    // Only set for atomic batches
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean committed;
+
+    private List<BatchResult> results;
+
+    public BatchResponse(Boolean committed, List<BatchResult> results) {
+        this.committed = committed;
+        this.results = results;
+    }
+
+    public Boolean getCommitted() {
+        return committed;
+    }
+    public List<BatchResult> getResults() {
+        return results;
+    }
+}
@@ -0,0 +1,65 @@
+package com.jobtracker.jobtracker.dto;
+
+import java.util.Map;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchResult {
+
+    private int index;
+    private int status;
+    private String tempId;
+    private Long id;
+    private Object body;
+    private String error;
+    private Map<String, String> fieldErrors;
+
+    public static BatchResult success(int index, int status, String tempId, Long id, Object body) {
+        BatchResult result = new BatchResult();
+        result.index = index;
+        result.status = status;
+        result.tempId = tempId;
+        result.id = id;
+        result.body = body;
+        return result;
+    }
+
+    public static BatchResult failure(int index, int status, String error) {
+        BatchResult result = new BatchResult();
+        result.index = index;
+        result.status = status;
+        result.error = error;
+        return result;
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return status < 400;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+    public int getStatus() {
+        return status;
+    }
+    public String getTempId() {
+        return tempId;
+    }
+    public Long getId() {
+        return id;
+    }
+    public Object getBody() {
+        return body;
+    }
+    public String getError() {
+        return error;
+    }
+    public Map<String, String> getFieldErrors() {
+        return fieldErrors;
+    }
+    public void setFieldErrors(Map<String, String> fieldErrors) {
+        this.fieldErrors = fieldErrors;
+    }
+}
@@ -0,0 +1,49 @@
+package com.jobtracker.jobtracker.dto;
+
+import com.jobtracker.jobtracker.model.SyncEntityType;
+
+/**
+ * Data of a pushed {@code change} event. The event id is the change's sync
+ * sequence, so it doubles as a cursor for {@code GET /api/sync}.
+ */
+public class ChangeNotification {
+
+    private SyncEntityType type;
+    private Long id;
+    private Long applicationId;
+    private boolean deleted;
+
+    public ChangeNotification() {}
+
+    public ChangeNotification(SyncEntityType type, Long id, Long applicationId, boolean deleted) {
+        this.type = type;
+        this.id = id;
+        this.applicationId = applicationId;
+        this.deleted = deleted;
+    }
+
+    public SyncEntityType getType() {
+        return type;
+    }
+    public void setType(SyncEntityType type) {
+        this.type = type;
+    }
+    public Long getId() {
+        return id;
+    }
+    public void setId(Long id) {
+        this.id = id;
+    }
+    public Long getApplicationId() {
+        return applicationId;
+    }
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+    public boolean isDeleted() {
+        return deleted;
+    }
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
@@ -0,0 +1,33 @@
+package com.jobtracker.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * One page of notes: {@link NoteResponse} items by default, or maps holding
+ * just the requested fields when the client sent {@code ?fields=}.
+ */
+public class NotePageResponse<T> {
+
+    private List<T> notes;
+    private String nextCursor;
+
+    public NotePageResponse() {}
+
+    public NotePageResponse(List<T> notes, String nextCursor) {
+        this.notes = notes;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getNotes() {
+        return notes;
+    }
+    public void setNotes(List<T> notes) {
+        this.notes = notes;
+    }
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -1,20 +1,36 @@
 package com.jobtracker.jobtracker.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.LocalDateTime;
 
 public class NoteResponse {
     
     private Long id;
+
+    // Set in the sync feed only, where notes of different applications arrive together
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long applicationId;
+
     private String content;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // Set on list items only: true when content holds a preview of a longer note
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean truncated;
+
     public Long getId() {
         return id;
     }
     public void setId(Long id) {
         this.id = id;
     }
+    public Long getApplicationId() {
+        return applicationId;
+    }
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
     public String getContent() {
         return content;
     }
@@ -33,4 +49,10 @@ public class NoteResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
+    public Boolean getTruncated() {
+        return truncated;
+    }
+    public void setTruncated(Boolean truncated) {
+        this.truncated = truncated;
+    }
 }
@@ -0,0 +1,33 @@
+package com.jobtracker.jobtracker.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+
+public class NoteRevisionResponse {
+
+    private Integer revision;
+    private LocalDateTime createdAt;
+
+    // Only set when a single revision is fetched
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String content;
+
+    public Integer getRevision() {
+        return revision;
+    }
+    public void setRevision(Integer revision) {
+        this.revision = revision;
+    }
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    public String getContent() {
+        return content;
+    }
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
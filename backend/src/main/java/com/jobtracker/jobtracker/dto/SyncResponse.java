@@ -0,0 +1,65 @@
+package com.jobtracker.jobtracker.dto;
+
+import java.util.List;
+
+/**
+ * One page of the change feed. {@code full} means the lists hold everything
+ * the user owns and the client should replace its local copy; otherwise they
+ * hold what changed after the cursor the client sent. Deleting an application
+ * also deletes its notes, so a client drops them on the application tombstone.
+ */
+public class SyncResponse {
+
+    private long cursor;
+    private boolean full;
+    private boolean hasMore;
+    private List<ApplicationResponse> applications;
+    private List<NoteResponse> notes;
+    private List<Long> deletedApplicationIds;
+    private List<Long> deletedNoteIds;
+
+    public SyncResponse() {}
+
+    public long getCursor() {
+        return cursor;
+    }
+    public void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+    public boolean isFull() {
+        return full;
+    }
+    public void setFull(boolean full) {
+        this.full = full;
+    }
+    public boolean isHasMore() {
+        return hasMore;
+    }
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+    public List<ApplicationResponse> getApplications() {
+        return applications;
+    }
+    public void setApplications(List<ApplicationResponse> applications) {
+        this.applications = applications;
+    }
+    public List<NoteResponse> getNotes() {
+        return notes;
+    }
+    public void setNotes(List<NoteResponse> notes) {
+        this.notes = notes;
+    }
+    public List<Long> getDeletedApplicationIds() {
+        return deletedApplicationIds;
+    }
+    public void setDeletedApplicationIds(List<Long> deletedApplicationIds) {
+        this.deletedApplicationIds = deletedApplicationIds;
+    }
+    public List<Long> getDeletedNoteIds() {
+        return deletedNoteIds;
+    }
+    public void setDeletedNoteIds(List<Long> deletedNoteIds) {
+        this.deletedNoteIds = deletedNoteIds;
+    }
+}
@@ -0,0 +1,23 @@
+package com.jobtracker.jobtracker.event;
+
+/**
+ * Published whenever an application, or anything shown as part of it, is
+ * created, updated or deleted on behalf of a user.
+ */
+public class ApplicationChangedEvent {
+
+    private final String email;
+    private final Long applicationId;
+
+    public ApplicationChangedEvent(String email, Long applicationId) {
+        this.email = email;
+        this.applicationId = applicationId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+    public Long getApplicationId() {
+        return applicationId;
+    }
+}
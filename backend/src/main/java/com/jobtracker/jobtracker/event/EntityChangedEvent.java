@@ -0,0 +1,46 @@
+package com.jobtracker.jobtracker.event;
+
+import com.jobtracker.jobtracker.model.SyncEntityType;
+
+/**
+ * Published for every entry written to the change feed, carrying the
+ * sequence it was recorded under.
+ */
+public class EntityChangedEvent {
+
+    private final String email;
+    private final SyncEntityType entityType;
+    private final Long entityId;
+    private final Long applicationId;
+    private final boolean deleted;
+    private final long sequence;
+
+    public EntityChangedEvent(String email, SyncEntityType entityType, Long entityId, Long applicationId,
+                              boolean deleted, long sequence) {
+        this.email = email;
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.applicationId = applicationId;
+        this.deleted = deleted;
+        this.sequence = sequence;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+    public Long getEntityId() {
+        return entityId;
+    }
+    public Long getApplicationId() {
+        return applicationId;
+    }
+    public boolean isDeleted() {
+        return deleted;
+    }
+    public long getSequence() {
+        return sequence;
+    }
+}
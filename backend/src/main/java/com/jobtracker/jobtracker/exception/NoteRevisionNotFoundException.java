@@ -0,0 +1,7 @@
+package com.jobtracker.jobtracker.exception;
+
+public class NoteRevisionNotFoundException extends RuntimeException {
+    public NoteRevisionNotFoundException(Long noteId, int revision) {
+        super("Revision " + revision + " not found for note with id: " + noteId);
+    }
+}
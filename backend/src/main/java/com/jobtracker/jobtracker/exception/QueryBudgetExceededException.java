@@ -0,0 +1,7 @@
+package com.jobtracker.jobtracker.exception;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(int statements, int budget, String sql) {
+        super("Request ran " + statements + " SQL statements, over its budget of " + budget + ": " + sql);
+    }
+}
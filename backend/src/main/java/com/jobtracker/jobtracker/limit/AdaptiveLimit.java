@@ -0,0 +1,147 @@
+package com.jobtracker.jobtracker.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A concurrency limit that follows the latency of the requests it admits,
+ * in the style of the gradient algorithm from Netflix's concurrency-limits.
+ *
+ * Latencies are averaged over windows of {@code windowSize} requests. Each
+ * window is compared with a long-term baseline, an exponential average of
+ * the earlier windows. While latency stays within {@code tolerance} times
+ * the baseline, the limit grows by its square root, the queue it allows
+ * itself. Past that it shrinks in proportion, by at most half per window.
+ * A window with a server error backs the limit off multiplicatively,
+ * because an exhausted pool or timed-out database fails fast rather than
+ * slowly. Windows in which the limit was never half used say nothing about
+ * capacity and leave it unchanged. Every change is smoothed and kept within
+ * {@code [minLimit, maxLimit]}.
+ */
+final class AdaptiveLimit {
+
+    private static final int BASELINE_WINDOWS = 50;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int windowSize;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Not a monitor: requests run on virtual threads, which must not be pinned to their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile int limit;
+
+    // Guarded by lock
+    private double estimate;
+    private double baselineNanos;
+    private long windowNanos;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowFailed;
+
+    AdaptiveLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, int windowSize) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max, got " + minLimit + ".." + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowSize = windowSize;
+        this.estimate = Math.clamp(initialLimit, minLimit, maxLimit);
+        this.limit = (int) estimate;
+    }
+
+    /**
+     * Takes a slot when fewer than {@link #limit()} requests are in flight.
+     * Every successful call must be followed by one {@code release}.
+     */
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Frees the slot and adds the request's latency to the current window.
+     * {@code failed} marks a server error.
+     */
+    void release(long latencyNanos, boolean failed) {
+        int concurrency = inFlight.getAndDecrement();
+        sample(latencyNanos, failed, concurrency);
+    }
+
+    /**
+     * Frees the slot without a sample, for requests whose latency says
+     * nothing about load, such as event streams that stay open until the
+     * client leaves.
+     */
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    int limit() {
+        return limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    // -- Algorithm -----------------------------------------------------
+
+    private void sample(long latencyNanos, boolean failed, int concurrency) {
+        lock.lock();
+        try {
+            windowNanos += latencyNanos;
+            windowSamples++;
+            windowMaxInFlight = Math.max(windowMaxInFlight, concurrency);
+            windowFailed |= failed;
+            if (windowSamples < windowSize) {
+                return;
+            }
+            double latency = (double) windowNanos / windowSamples;
+            int maxInFlight = windowMaxInFlight;
+            boolean anyFailed = windowFailed;
+            windowNanos = 0;
+            windowSamples = 0;
+            windowMaxInFlight = 0;
+            windowFailed = false;
+            update(latency, maxInFlight, anyFailed);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(double latency, int maxInFlight, boolean failed) {
+        if (baselineNanos == 0) {
+            baselineNanos = latency;
+        } else {
+            baselineNanos += (latency - baselineNanos) / BASELINE_WINDOWS;
+        }
+        // After an overload the baseline has drifted up; let it drop quickly once latency recovers
+        if (baselineNanos > 2 * latency) {
+            baselineNanos *= 0.95;
+        }
+
+        double target;
+        if (failed) {
+            target = estimate * BACKOFF;
+        } else if (maxInFlight < estimate / 2) {
+            return;
+        } else {
+            double gradient = Math.clamp(tolerance * baselineNanos / latency, MIN_GRADIENT, 1.0);
+            target = estimate * gradient + Math.sqrt(estimate);
+        }
+        estimate = Math.clamp(estimate * (1 - SMOOTHING) + target * SMOOTHING, minLimit, maxLimit);
+        limit = (int) estimate;
+    }
+}
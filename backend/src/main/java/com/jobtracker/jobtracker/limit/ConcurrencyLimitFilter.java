@@ -0,0 +1,182 @@
+package com.jobtracker.jobtracker.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import tools.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds API requests above an {@link AdaptiveLimit} instead of letting them
+ * queue for threads and connections while the database is slow. Auth, reads
+ * and writes each have their own limit. A request over its limit gets an
+ * immediate {@code 503} with {@code Retry-After}, before authentication, so
+ * it costs neither a token check nor a user lookup.
+ *
+ * Runs after the request observation, so shed requests still show up in
+ * {@code http.server.requests} and the access log, and before Spring
+ * Security. Requests that continue asynchronously keep their slot until
+ * the async request completes, fails or times out, and are sampled with the
+ * latency up to then. Server-sent event streams are the exception: they are
+ * subscriptions that stay open until the client leaves, so they give their
+ * slot back once the servlet thread returns and add no sample.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    static final String OVERLOADED = "Server is busy, please retry later";
+
+    private final Map<TrafficClass, AdaptiveLimit> limits = new EnumMap<>(TrafficClass.class);
+    private final Map<TrafficClass, Counter> rejections = new EnumMap<>(TrafficClass.class);
+    private final ObjectMapper objectMapper;
+    private final String retryAfter;
+
+    public ConcurrencyLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                  @Value("${concurrency-limit.auth.initial:4}") int authInitial,
+                                  @Value("${concurrency-limit.auth.max:32}") int authMax,
+                                  @Value("${concurrency-limit.read.initial:20}") int readInitial,
+                                  @Value("${concurrency-limit.read.max:200}") int readMax,
+                                  @Value("${concurrency-limit.write.initial:10}") int writeInitial,
+                                  @Value("${concurrency-limit.write.max:100}") int writeMax,
+                                  @Value("${concurrency-limit.min:4}") int min,
+                                  @Value("${concurrency-limit.tolerance:1.5}") double tolerance,
+                                  @Value("${concurrency-limit.window:10}") int window,
+                                  @Value("${concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        this.objectMapper = objectMapper;
+        this.retryAfter = Long.toString(Math.max(1, retryAfter.toSeconds()));
+        limits.put(TrafficClass.AUTH, new AdaptiveLimit(authInitial, min, authMax, tolerance, window));
+        limits.put(TrafficClass.READ, new AdaptiveLimit(readInitial, min, readMax, tolerance, window));
+        limits.put(TrafficClass.WRITE, new AdaptiveLimit(writeInitial, min, writeMax, tolerance, window));
+
+        limits.forEach((trafficClass, limit) -> {
+            Gauge.builder("api.concurrency.limit", limit, AdaptiveLimit::limit)
+                    .description("Concurrent requests currently admitted")
+                    .tag("traffic", trafficClass.tag())
+                    .register(meterRegistry);
+            Gauge.builder("api.concurrency.in-flight", limit, AdaptiveLimit::inFlight)
+                    .description("Requests currently holding a slot")
+                    .tag("traffic", trafficClass.tag())
+                    .register(meterRegistry);
+            rejections.put(trafficClass, Counter.builder("api.concurrency.rejected")
+                    .description("Requests shed with 503 because the limit was reached")
+                    .tag("traffic", trafficClass.tag())
+                    .register(meterRegistry));
+        });
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TrafficClass trafficClass = TrafficClass.of(request);
+        if (trafficClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        AdaptiveLimit limit = limits.get(trafficClass);
+        if (!limit.tryAcquire()) {
+            rejections.get(trafficClass).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            if (!request.isAsyncStarted()) {
+                limit.release(System.nanoTime() - start, failed);
+            } else if (isEventStream(response)) {
+                limit.release();
+            } else {
+                request.getAsyncContext().addListener(new AsyncRelease(limit, response, start));
+            }
+        }
+    }
+
+    private static boolean isEventStream(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null
+                && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(MediaType.parseMediaType(contentType));
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), Map.of("error", OVERLOADED));
+    }
+
+    AdaptiveLimit limit(TrafficClass trafficClass) {
+        return limits.get(trafficClass);
+    }
+
+    /**
+     * Frees an async request's slot with its latency at the first of
+     * complete, error or timeout; the container reports complete after the
+     * other two as well.
+     */
+    private static final class AsyncRelease implements AsyncListener {
+
+        private final AdaptiveLimit limit;
+        private final HttpServletResponse response;
+        private final long start;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private AsyncRelease(AdaptiveLimit limit, HttpServletResponse response, long start) {
+            this.limit = limit;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release(response.getStatus() >= 500);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release(true);
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // Listeners are dropped when async processing starts again after a dispatch
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release(boolean failed) {
+            if (released.compareAndSet(false, true)) {
+                limit.release(System.nanoTime() - start, failed);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.jobtracker.jobtracker.limit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * The groups of API requests that get a concurrency limit of their own, so a
+ * flood of one kind cannot use up the capacity of the others: logins and
+ * registrations spend CPU on BCrypt, reads and writes spend database time.
+ */
+enum TrafficClass {
+    AUTH,
+    READ,
+    WRITE;
+
+    private static final String API = "/api/";
+    private static final String AUTH_PATH = "/api/auth/";
+
+    String tag() {
+        return name().toLowerCase();
+    }
+
+    /**
+     * Returns the class of an API request, or {@code null} for everything
+     * outside {@code /api/} (health checks, metrics), which is never limited.
+     */
+    static TrafficClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(API)) {
+            return null;
+        }
+        if (path.startsWith(AUTH_PATH)) {
+            return AUTH;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+}
@@ -3,6 +3,8 @@ package com.jobtracker.jobtracker.model;
 import java.time.LocalDate;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import jakarta.persistence.Column;
@@ -13,11 +15,17 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 
 @Entity
-@Table(name = "applications")
+@Table(name = "applications", indexes = {
+    // Every read is scoped to the owner; Postgres does not index foreign keys on its own
+    @Index(name = "idx_applications_user", columnList = "user_id")
+})
 public class Application {
     
     @Id
@@ -63,7 +71,9 @@ public class Application {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
-
+    @OneToMany(mappedBy = "application")
+    @OrderBy("createdAt ASC, id ASC")
+    private List<Note> notes = new ArrayList<>();
 
     public Application() {}
 
@@ -156,6 +166,12 @@ public class Application {
     }
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
-    }   
+    }
+    public List<Note> getNotes() {
+        return notes;
+    }
+    public void setNotes(List<Note> notes) {
+        this.notes = notes;
+    }
     
 }
@@ -2,7 +2,10 @@ package com.jobtracker.jobtracker.model;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 import org.hibernate.annotations.UpdateTimestamp;
 import jakarta.persistence.Table;
 import jakarta.persistence.Column;
@@ -11,11 +14,15 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 
 @Entity
-@Table(name = "notes")
+@Table(name = "notes", indexes = {
+    // Backs the keyset pagination of an application's notes, newest first
+    @Index(name = "idx_notes_application_created", columnList = "application_id, created_at, id")
+})
 public class Note {
     
     @Id
@@ -24,11 +31,21 @@ public class Note {
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "application_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Application application;
 
-    @Column(nullable = false)
+    // Full body, or only its leading characters when the body is in contentCompressed
+    @Column(nullable = false, columnDefinition = "text")
     private String content;
 
+    @Column(name = "content_compressed")
+    private byte[] contentCompressed;
+
+    // Number of the current version; earlier ones are kept in note_revisions
+    @Column(nullable = false)
+    @ColumnDefault("1")
+    private int revision = 1;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -56,6 +73,18 @@ public class Note {
     public void setContent(String content) {
         this.content = content;
     }
+    public byte[] getContentCompressed() {
+        return contentCompressed;
+    }
+    public void setContentCompressed(byte[] contentCompressed) {
+        this.contentCompressed = contentCompressed;
+    }
+    public int getRevision() {
+        return revision;
+    }
+    public void setRevision(int revision) {
+        this.revision = revision;
+    }
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
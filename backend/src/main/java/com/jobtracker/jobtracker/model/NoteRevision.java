@@ -0,0 +1,89 @@
+package com.jobtracker.jobtracker.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A superseded version of a note. The current version lives in the note
+ * itself; each row here is either a full deflated snapshot or a delta that
+ * rebuilds this version from the next one.
+ */
+@Entity
+@Table(name = "note_revisions", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_note_revisions_note_revision", columnNames = {"note_id", "revision"})
+})
+public class NoteRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "note_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Note note;
+
+    @Column(nullable = false)
+    private int revision;
+
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    @Column(nullable = false)
+    private byte[] data;
+
+    // When this version was written, i.e. the note's updatedAt while it was current
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public NoteRevision() {}
+
+    public Long getId() {
+        return id;
+    }
+    public void setId(Long id) {
+        this.id = id;
+    }
+    public Note getNote() {
+        return note;
+    }
+    public void setNote(Note note) {
+        this.note = note;
+    }
+    public int getRevision() {
+        return revision;
+    }
+    public void setRevision(int revision) {
+        this.revision = revision;
+    }
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+    public byte[] getData() {
+        return data;
+    }
+    public void setData(byte[] data) {
+        this.data = data;
+    }
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
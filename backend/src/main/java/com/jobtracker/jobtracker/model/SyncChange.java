@@ -0,0 +1,100 @@
+package com.jobtracker.jobtracker.model;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * The latest change to one application or note. Each write moves the row to
+ * the user's next sequence, so the feed holds one row per changed entity and
+ * deletes stay behind as tombstones.
+ */
+@Entity
+@Table(name = "sync_changes",
+    uniqueConstraints = @UniqueConstraint(name = "uk_sync_changes_entity",
+            columnNames = {"user_id", "entity_type", "entity_id"}),
+    indexes = @Index(name = "idx_sync_changes_user_sequence", columnList = "user_id, sequence"))
+public class SyncChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private SyncEntityType entityType;
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private Long applicationId;
+
+    @Column(nullable = false)
+    private long sequence;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    public SyncChange() {}
+
+    public Long getId() {
+        return id;
+    }
+    public void setId(Long id) {
+        this.id = id;
+    }
+    public User getUser() {
+        return user;
+    }
+    public void setUser(User user) {
+        this.user = user;
+    }
+    public SyncEntityType getEntityType() {
+        return entityType;
+    }
+    public void setEntityType(SyncEntityType entityType) {
+        this.entityType = entityType;
+    }
+    public Long getEntityId() {
+        return entityId;
+    }
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+    public Long getApplicationId() {
+        return applicationId;
+    }
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+    public long getSequence() {
+        return sequence;
+    }
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+    public boolean isDeleted() {
+        return deleted;
+    }
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
+}
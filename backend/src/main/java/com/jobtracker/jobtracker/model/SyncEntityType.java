@@ -0,0 +1,6 @@
+package com.jobtracker.jobtracker.model;
+
+public enum SyncEntityType {
+    APPLICATION,
+    NOTE
+}
@@ -0,0 +1,37 @@
+package com.jobtracker.jobtracker.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * The last change sequence handed out for a user. Writers bump it with an
+ * upsert, so the row lock also orders concurrent changes by commit.
+ */
+@Entity
+@Table(name = "sync_sequences")
+public class SyncSequence {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private long lastSequence;
+
+    public SyncSequence() {}
+
+    public Long getUserId() {
+        return userId;
+    }
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    public long getLastSequence() {
+        return lastSequence;
+    }
+    public void setLastSequence(long lastSequence) {
+        this.lastSequence = lastSequence;
+    }
+}
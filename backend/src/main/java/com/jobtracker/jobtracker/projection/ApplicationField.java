@@ -0,0 +1,41 @@
+package com.jobtracker.jobtracker.projection;
+
+public enum ApplicationField implements ProjectedField {
+    ID("id", "a.id"),
+    COMPANY_NAME("companyName", "a.companyName"),
+    POSITION_TITLE("positionTitle", "a.positionTitle"),
+    LOCATION("location", "a.location"),
+    WORK_MODE("workMode", "a.workMode"),
+    APPLICATION_SOURCE("applicationSource", "a.applicationSource"),
+    JOB_POSTING_URL("jobPostingUrl", "a.jobPostingUrl"),
+    SALARY_MIN("salaryMin", "a.salaryMin"),
+    SALARY_MAX("salaryMax", "a.salaryMax"),
+    STATUS("status", "a.status"),
+    APPLICATION_DATE("applicationDate", "a.applicationDate"),
+    NEXT_STEP_DATE("nextStepDate", "a.nextStepDate"),
+    CREATED_AT("createdAt", "a.createdAt"),
+    UPDATED_AT("updatedAt", "a.updatedAt"),
+    NOTE_COUNT("noteCount", "(select count(n) from Note n where n.application = a)"),
+    // Binds :previewLength
+    LATEST_NOTE_PREVIEW("latestNotePreview", """
+            (select substring(n.content, 1, :previewLength) from Note n where n.application = a
+             order by n.createdAt desc, n.id desc limit 1)""");
+
+    private final String jsonName;
+    private final String expression;
+
+    ApplicationField(String jsonName, String expression) {
+        this.jsonName = jsonName;
+        this.expression = expression;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+
+    @Override
+    public String expression() {
+        return expression;
+    }
+}
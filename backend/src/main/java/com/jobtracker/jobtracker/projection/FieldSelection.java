@@ -0,0 +1,93 @@
+package com.jobtracker.jobtracker.projection;
+
+import jakarta.persistence.Tuple;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A compiled {@code ?fields=} selection: the JPQL select list and the
+ * positions and names used to turn each result row into JSON. Built once per
+ * distinct field set by {@link FieldSelections} and shared afterwards.
+ */
+public final class FieldSelection<F extends Enum<F> & ProjectedField> {
+
+    private final List<F> columns;
+    private final Set<F> requested;
+    private final String selectList;
+    private final int[] columnByOrdinal;
+    private final int[] outputColumns;
+    private final String[] outputNames;
+    private final SerializableString[] encodedNames;
+
+    FieldSelection(Set<F> requested, Set<F> required) {
+        EnumSet<F> selected = EnumSet.copyOf(requested);
+        selected.addAll(required);
+        this.columns = List.copyOf(selected);
+        this.requested = Set.copyOf(requested);
+        this.selectList = columns.stream().map(ProjectedField::expression).collect(Collectors.joining(", "));
+        this.columnByOrdinal = new int[selected.iterator().next().getDeclaringClass().getEnumConstants().length];
+        this.outputColumns = new int[requested.size()];
+        this.outputNames = new String[requested.size()];
+        int output = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            columnByOrdinal[columns.get(i).ordinal()] = i;
+            if (requested.contains(columns.get(i))) {
+                outputColumns[output] = i;
+                outputNames[output] = columns.get(i).jsonName();
+                output++;
+            }
+        }
+        this.encodedNames = new SerializableString[outputNames.length];
+        for (int i = 0; i < outputNames.length; i++) {
+            encodedNames[i] = new SerializedString(outputNames[i]);
+        }
+    }
+
+    public String selectList() {
+        return selectList;
+    }
+
+    public boolean selects(F field) {
+        return columns.contains(field);
+    }
+
+    public boolean isRequested(F field) {
+        return requested.contains(field);
+    }
+
+    public Object get(Tuple row, F field) {
+        return row.get(columnByOrdinal[field.ordinal()]);
+    }
+
+    /**
+     * The requested fields of a row, in declaration order; fields selected
+     * only for internal use are left out.
+     */
+    public Map<String, Object> toJson(Tuple row) {
+        Map<String, Object> json = new LinkedHashMap<>(outputNames.length * 2);
+        for (int i = 0; i < outputNames.length; i++) {
+            json.put(outputNames[i], row.get(outputColumns[i]));
+        }
+        return json;
+    }
+
+    /**
+     * Writes the requested fields of a row as one JSON object, with the
+     * field names encoded once per selection rather than once per row.
+     */
+    public void writeJson(JsonGenerator generator, Tuple row) {
+        generator.writeStartObject();
+        for (int i = 0; i < encodedNames.length; i++) {
+            generator.writeName(encodedNames[i]);
+            generator.writePOJO(row.get(outputColumns[i]));
+        }
+        generator.writeEndObject();
+    }
+}
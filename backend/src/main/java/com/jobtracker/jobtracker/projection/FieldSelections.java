@@ -0,0 +1,62 @@
+package com.jobtracker.jobtracker.projection;
+
+import com.jobtracker.jobtracker.exception.InvalidFieldsException;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Parses {@code ?fields=} against a fixed set of fields and hands out the
+ * compiled selection for each distinct set. Only names from the enum are
+ * accepted, so request input never reaches the query text.
+ */
+public final class FieldSelections<F extends Enum<F> & ProjectedField> {
+
+    private final Class<F> type;
+    private final Set<F> required;
+    private final Map<String, F> byName;
+    // At most one entry per subset of the enum
+    private final Map<Set<F>, FieldSelection<F>> compiled = new ConcurrentHashMap<>();
+
+    /**
+     * @param required fields always selected, e.g. for a page cursor, but only
+     *                 returned when requested
+     */
+    public FieldSelections(Class<F> type, Set<F> required) {
+        this.type = type;
+        this.required = required.isEmpty() ? EnumSet.noneOf(type) : EnumSet.copyOf(required);
+        this.byName = Arrays.stream(type.getEnumConstants())
+                .collect(Collectors.toUnmodifiableMap(ProjectedField::jsonName, Function.identity()));
+    }
+
+    /**
+     * The compiled selection for a fixed set of fields, e.g. a default chosen by the server.
+     */
+    public FieldSelection<F> of(Set<F> fields) {
+        return compiled.computeIfAbsent(EnumSet.copyOf(fields), key -> new FieldSelection<>(key, required));
+    }
+
+    public FieldSelection<F> parse(String fields) {
+        EnumSet<F> requested = EnumSet.noneOf(type);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            F field = byName.get(trimmed);
+            if (field == null) {
+                throw new InvalidFieldsException("Unknown field '" + trimmed + "'; valid fields are "
+                        + String.join(", ", byName.keySet().stream().sorted().toList()));
+            }
+            requested.add(field);
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidFieldsException("fields must name at least one field");
+        }
+        return compiled.computeIfAbsent(requested, key -> new FieldSelection<>(key, required));
+    }
+}
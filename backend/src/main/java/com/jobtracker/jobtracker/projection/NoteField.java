@@ -0,0 +1,27 @@
+package com.jobtracker.jobtracker.projection;
+
+public enum NoteField implements ProjectedField {
+    ID("id", "n.id"),
+    // Binds :previewLength; list endpoints only ship previews
+    CONTENT("content", "substring(n.content, 1, :previewLength)"),
+    CREATED_AT("createdAt", "n.createdAt"),
+    UPDATED_AT("updatedAt", "n.updatedAt");
+
+    private final String jsonName;
+    private final String expression;
+
+    NoteField(String jsonName, String expression) {
+        this.jsonName = jsonName;
+        this.expression = expression;
+    }
+
+    @Override
+    public String jsonName() {
+        return jsonName;
+    }
+
+    @Override
+    public String expression() {
+        return expression;
+    }
+}
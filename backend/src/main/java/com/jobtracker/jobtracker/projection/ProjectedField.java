@@ -0,0 +1,12 @@
+package com.jobtracker.jobtracker.projection;
+
+/**
+ * A response field that can be requested through {@code ?fields=}, with the
+ * JPQL expression that produces it.
+ */
+public interface ProjectedField {
+
+    String jsonName();
+
+    String expression();
+}
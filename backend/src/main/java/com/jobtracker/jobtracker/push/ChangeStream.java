@@ -0,0 +1,437 @@
+package com.jobtracker.jobtracker.push;
+
+import com.jobtracker.jobtracker.dto.ChangeNotification;
+import com.jobtracker.jobtracker.event.EntityChangedEvent;
+import com.jobtracker.jobtracker.repository.SyncChangeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes committed changes to the owner's open server-sent event streams.
+ *
+ * Streams are async servlet responses, so an idle connection holds no
+ * thread. Work for one user runs strictly in order on a virtual thread:
+ * committed changes, replays for reconnecting clients and heartbeats. A
+ * slow client therefore only delays its own user. A user's state is set up
+ * by the first stream they open and dropped once they have had none for the
+ * retention period, so writes by users who never stream cost nothing here.
+ * It keeps a small ring of recent changes. A client reconnecting with
+ * {@code Last-Event-ID} gets the missed changes from it, or a {@code resync}
+ * event when the ring cannot prove it still holds all of them. The client
+ * then catches up via {@code GET /api/sync}. Changes committed on other nodes arrive through
+ * the {@link com.jobtracker.jobtracker.cache.CacheInvalidationBus}.
+ */
+@Component
+public class ChangeStream implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeStream.class);
+
+    static final String CHANGE_EVENT = "change";
+    static final String RESYNC_EVENT = "resync";
+
+    private final Duration timeout;
+    private final Duration heartbeatInterval;
+    private final int replayCapacity;
+    private final long retentionNanos;
+    private final Executor deliveryExecutor;
+    private final SyncChangeRepository syncChangeRepository;
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private volatile boolean running;
+    private ScheduledExecutorService heartbeat;
+
+    @Autowired
+    public ChangeStream(@Value("${sse.timeout:30m}") Duration timeout,
+                        @Value("${sse.heartbeat-interval:15s}") Duration heartbeatInterval,
+                        @Value("${sse.replay.capacity:256}") int replayCapacity,
+                        @Value("${sse.replay.retention:10m}") Duration retention,
+                        MeterRegistry meterRegistry,
+                        SyncChangeRepository syncChangeRepository) {
+        this(timeout, heartbeatInterval, replayCapacity, retention, meterRegistry, syncChangeRepository,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    ChangeStream(Duration timeout, Duration heartbeatInterval, int replayCapacity, Duration retention,
+                 MeterRegistry meterRegistry, SyncChangeRepository syncChangeRepository,
+                 Executor deliveryExecutor) {
+        this.timeout = timeout;
+        this.heartbeatInterval = heartbeatInterval;
+        this.replayCapacity = replayCapacity;
+        this.retentionNanos = retention.toNanos();
+        this.deliveryExecutor = deliveryExecutor;
+        this.syncChangeRepository = syncChangeRepository;
+        Gauge.builder("sse.connections", connections, AtomicInteger::get)
+                .description("Open server-sent event streams")
+                .register(meterRegistry);
+    }
+
+    // -- Subscribing ---------------------------------------------------
+
+    public SseEmitter subscribe(String email, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        subscribe(email, lastEventId, emitter);
+        return emitter;
+    }
+
+    void subscribe(String email, Long lastEventId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter, lastEventId != null ? lastEventId : 0);
+        connections.incrementAndGet();
+        channels.compute(email, (key, channel) -> {
+            Channel target = channel != null ? channel : new Channel();
+            target.subscribers.add(subscriber);
+            target.touch();
+            // Queued behind any change already in flight, so the replay sees it in the ring
+            target.submit(() -> replay(email, target, subscriber, lastEventId));
+            emitter.onCompletion(() -> disconnect(target, subscriber));
+            emitter.onTimeout(emitter::complete);
+            emitter.onError(ex -> disconnect(target, subscriber));
+            return target;
+        });
+    }
+
+    private void replay(String email, Channel channel, Subscriber subscriber, Long lastEventId) {
+        if (lastEventId == null) {
+            send(channel, subscriber, SseEmitter.event().comment("connected"));
+        } else {
+            if (!channel.ring.isAnchored()) {
+                anchor(email, channel.ring);
+            }
+            List<EntityChangedEvent> missed = channel.ring.after(lastEventId);
+            if (missed == null) {
+                send(channel, subscriber, SseEmitter.event().name(RESYNC_EVENT).data(Map.of("since", lastEventId)));
+            } else {
+                missed.forEach(event -> sendChange(channel, subscriber, event, changeEvent(event)));
+            }
+        }
+        subscriber.live = true;
+    }
+
+    /**
+     * Starts an empty ring at the user's last committed change. The channel
+     * already exists, so every later change still reaches the ring.
+     */
+    private void anchor(String email, ReplayRing ring) {
+        try {
+            ring.anchor(syncChangeRepository.findLastSequenceByEmail(email).orElse(0L));
+        } catch (DataAccessException ex) {
+            // Left unanchored, so the client is asked to resync
+            log.warn("Failed to read the last change sequence for a reconnecting stream", ex);
+        }
+    }
+
+    private void disconnect(Channel channel, Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            channel.subscribers.remove(subscriber);
+            channel.touch();
+            connections.decrementAndGet();
+        }
+    }
+
+    int connectionCount() {
+        return connections.get();
+    }
+
+    int channelCount() {
+        return channels.size();
+    }
+
+    // -- Publishing ----------------------------------------------------
+
+    /**
+     * Pushes a committed change to the owner's streams. Called after commit
+     * for changes made on this node, and by the invalidation bus for changes
+     * committed on the others. Owners who have not streamed recently have no
+     * channel, and the change is dropped.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEntityChanged(EntityChangedEvent event) {
+        channels.computeIfPresent(event.getEmail(), (key, channel) -> {
+            channel.submit(() -> {
+                channel.ring.add(event);
+                SseEmitter.SseEventBuilder frame = changeEvent(event);
+                for (Subscriber subscriber : channel.subscribers) {
+                    if (subscriber.live) {
+                        sendChange(channel, subscriber, event, frame);
+                    }
+                }
+            });
+            return channel;
+        });
+    }
+
+    /**
+     * Asks every open stream to catch up via {@code GET /api/sync} from the
+     * last change it was sent, for when changes from other nodes may have
+     * been lost.
+     */
+    public void resyncAll() {
+        for (String email : channels.keySet()) {
+            channels.computeIfPresent(email, (key, channel) -> {
+                channel.submit(() -> {
+                    for (Subscriber subscriber : channel.subscribers) {
+                        if (subscriber.live) {
+                            send(channel, subscriber, SseEmitter.event().name(RESYNC_EVENT)
+                                    .data(Map.of("since", subscriber.lastSequence)));
+                        }
+                    }
+                });
+                return channel;
+            });
+        }
+    }
+
+    private void broadcast(Channel channel, SseEmitter.SseEventBuilder event) {
+        for (Subscriber subscriber : channel.subscribers) {
+            if (subscriber.live) {
+                send(channel, subscriber, event);
+            }
+        }
+    }
+
+    private void sendChange(Channel channel, Subscriber subscriber, EntityChangedEvent event,
+                            SseEmitter.SseEventBuilder frame) {
+        send(channel, subscriber, frame);
+        subscriber.lastSequence = event.getSequence();
+    }
+
+    private void send(Channel channel, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException ex) {
+            // The client went away; the container completes the response on its own.
+            disconnect(channel, subscriber);
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder changeEvent(EntityChangedEvent event) {
+        return SseEmitter.event()
+                .id(Long.toString(event.getSequence()))
+                .name(CHANGE_EVENT)
+                .data(new ChangeNotification(event.getEntityType(), event.getEntityId(),
+                        event.getApplicationId(), event.isDeleted()));
+    }
+
+    // -- Heartbeat -----------------------------------------------------
+
+    void tick() {
+        long cutoff = System.nanoTime() - retentionNanos;
+        for (String email : channels.keySet()) {
+            channels.computeIfPresent(email, (key, channel) -> {
+                if (channel.isIdleSince(cutoff)) {
+                    return null;
+                }
+                if (!channel.subscribers.isEmpty()) {
+                    channel.submit(() -> broadcast(channel, SseEmitter.event().comment("heartbeat")));
+                }
+                return channel;
+            });
+        }
+    }
+
+    // -- Lifecycle -----------------------------------------------------
+
+    @Override
+    public void start() {
+        running = true;
+        heartbeat = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("sse-heartbeat").daemon().factory());
+        heartbeat.scheduleWithFixedDelay(this::tick,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.shutdown();
+        channels.values().forEach(channel -> channel.subscribers.forEach(s -> s.emitter.complete()));
+        if (deliveryExecutor instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // -- Per-user state ------------------------------------------------
+
+    private final class Channel {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        // Only touched by tasks, which never run concurrently
+        private final ReplayRing ring = new ReplayRing(replayCapacity);
+        private boolean draining;
+        // When a stream last opened or closed; changes alone do not keep the channel
+        private long lastActivity = System.nanoTime();
+
+        private void submit(Runnable task) {
+            lock.lock();
+            try {
+                tasks.add(task);
+                if (!draining) {
+                    draining = true;
+                    deliveryExecutor.execute(this::drain);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Runnable task;
+                lock.lock();
+                try {
+                    task = tasks.poll();
+                    if (task == null) {
+                        draining = false;
+                        return;
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException ex) {
+                    log.warn("Change stream task failed", ex);
+                }
+            }
+        }
+
+        private void touch() {
+            lock.lock();
+            try {
+                lastActivity = System.nanoTime();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isIdleSince(long cutoff) {
+            lock.lock();
+            try {
+                return !draining && tasks.isEmpty() && subscribers.isEmpty() && lastActivity - cutoff < 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // Set once the replay has gone out; live changes wait until then to keep the order
+        private volatile boolean live;
+        // Only touched by tasks of the subscriber's channel
+        private long lastSequence;
+
+        private Subscriber(SseEmitter emitter, long lastSequence) {
+            this.emitter = emitter;
+            this.lastSequence = lastSequence;
+        }
+    }
+
+    /**
+     * The last few changes of one user in arrival order, overwriting the
+     * oldest once full. It holds every change after its anchor: the sequence
+     * before the first change it was given, the last one committed when it
+     * was explicitly anchored, or the last one it has overwritten.
+     */
+    static final class ReplayRing {
+
+        private final EntityChangedEvent[] slots;
+        private int head;
+        private int size;
+        private long anchor = -1;
+
+        ReplayRing(int capacity) {
+            this.slots = new EntityChangedEvent[capacity];
+        }
+
+        void add(EntityChangedEvent event) {
+            if (anchor < 0) {
+                anchor = event.getSequence() - 1;
+            }
+            if (size == slots.length) {
+                anchor = Math.max(anchor, slots[head].getSequence());
+                head = (head + 1) % slots.length;
+                size--;
+            }
+            slots[(head + size) % slots.length] = event;
+            size++;
+        }
+
+        boolean isAnchored() {
+            return anchor >= 0;
+        }
+
+        /**
+         * Marks {@code sequence} as the last change before this ring. Only
+         * takes effect while the ring has not seen any change.
+         */
+        void anchor(long sequence) {
+            if (anchor < 0) {
+                anchor = sequence;
+            }
+        }
+
+        /**
+         * The changes after {@code sequence}, empty when it is at or past the
+         * newest one, or null unless they are all still here. Sequences of one
+         * user have no gaps, so a missing number means the change was
+         * overwritten, happened before the ring was anchored, was lost while
+         * the bus was disconnected, or was relayed from another node out of
+         * order.
+         */
+        List<EntityChangedEvent> after(long sequence) {
+            if (anchor < 0 || sequence < anchor) {
+                return null;
+            }
+            List<EntityChangedEvent> missed = new ArrayList<>();
+            long expected = sequence + 1;
+            for (int i = 0; i < size; i++) {
+                EntityChangedEvent event = slots[(head + i) % slots.length];
+                if (event.getSequence() <= sequence) {
+                    continue;
+                }
+                if (event.getSequence() != expected) {
+                    return null;
+                }
+                missed.add(event);
+                expected++;
+            }
+            return missed;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.jobtracker.jobtracker.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import com.jobtracker.jobtracker.model.Application;
 import java.util.List;
 import java.util.Optional;
@@ -8,4 +11,22 @@ import java.util.Optional;
 public interface ApplicationRepository extends JpaRepository<Application, Long>{
     List<Application> findByUserEmail(String email);
     Optional<Application> findByIdAndUserEmail(Long id, String email);
+    boolean existsByIdAndUserEmail(Long id, String email);
+
+    @EntityGraph(attributePaths = "notes")
+    Optional<Application> findWithNotesByIdAndUserEmail(Long id, String email);
+
+    /**
+     * Each row is the application, its note count and a prefix of its newest
+     * note, all from one statement regardless of how many applications match.
+     */
+    @Query("""
+            select a,
+                   (select count(n) from Note n where n.application = a),
+                   (select substring(n.content, 1, :previewLength) from Note n where n.application = a
+                    order by n.createdAt desc, n.id desc limit 1)
+            from Application a
+            where a.user.email = :email
+            """)
+    List<Object[]> findWithNoteSummaryByUserEmail(@Param("email") String email, @Param("previewLength") int previewLength);
 }
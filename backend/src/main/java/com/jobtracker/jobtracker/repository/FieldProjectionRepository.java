@@ -0,0 +1,105 @@
+package com.jobtracker.jobtracker.repository;
+
+import com.jobtracker.jobtracker.projection.ApplicationField;
+import com.jobtracker.jobtracker.projection.FieldSelection;
+import com.jobtracker.jobtracker.projection.NoteField;
+import com.jobtracker.jobtracker.diagnostics.RepositoryObservationPostProcessor;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Reads that select only the columns of a {@code ?fields=} selection. The
+ * select list comes from the compiled selection, never from request input,
+ * and each distinct query text is parsed once by Hibernate's plan cache.
+ * Queries are observed like Spring Data repository calls, so they show up
+ * in the same spans, timers and request timings.
+ */
+@Repository
+public class FieldProjectionRepository {
+
+    private final EntityManager entityManager;
+    private final ObservationRegistry observationRegistry;
+
+    public FieldProjectionRepository(EntityManager entityManager, ObservationRegistry observationRegistry) {
+        this.entityManager = entityManager;
+        this.observationRegistry = observationRegistry;
+    }
+
+    public List<Tuple> findApplications(FieldSelection<ApplicationField> selection, String email, int previewLength) {
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "select " + selection.selectList() + " from Application a where a.user.email = :email", Tuple.class);
+        query.setParameter("email", email);
+        bindPreviewLength(query, selection.selects(ApplicationField.LATEST_NOTE_PREVIEW), previewLength);
+        return timed("findApplications", query::getResultList);
+    }
+
+    /**
+     * Same rows as {@link #findApplications}, read lazily through a server-side
+     * cursor {@code fetchSize} rows at a time. Tuples are not managed entities,
+     * so the persistence context stays empty however many rows pass through.
+     * Must be consumed, and closed, inside a transaction. Only opening the
+     * cursor is timed.
+     */
+    public Stream<Tuple> streamApplications(FieldSelection<ApplicationField> selection, String email,
+                                            int previewLength, int fetchSize) {
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "select " + selection.selectList() + " from Application a where a.user.email = :email"
+                        + " order by a.id", Tuple.class);
+        query.setParameter("email", email);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        bindPreviewLength(query, selection.selects(ApplicationField.LATEST_NOTE_PREVIEW), previewLength);
+        return timed("streamApplications", query::getResultStream);
+    }
+
+    public Optional<Tuple> findApplication(FieldSelection<ApplicationField> selection, Long id, String email,
+                                           int previewLength) {
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "select " + selection.selectList() + " from Application a where a.id = :id and a.user.email = :email",
+                Tuple.class);
+        query.setParameter("id", id);
+        query.setParameter("email", email);
+        bindPreviewLength(query, selection.selects(ApplicationField.LATEST_NOTE_PREVIEW), previewLength);
+        return timed("findApplication", () -> query.getResultStream().findFirst());
+    }
+
+    /**
+     * Same keyset page as {@link NoteRepository#findPreviewsByApplicationIdBefore}; pass a null
+     * {@code createdAt} for the first page.
+     */
+    public List<Tuple> findNotes(FieldSelection<NoteField> selection, Long applicationId,
+                                 LocalDateTime createdAt, Long id, int previewLength, int limit) {
+        String keyset = createdAt == null ? "" : " and (n.createdAt, n.id) < (:createdAt, :id)";
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                "select " + selection.selectList() + " from Note n where n.application.id = :applicationId"
+                        + keyset + " order by n.createdAt desc, n.id desc", Tuple.class);
+        query.setParameter("applicationId", applicationId);
+        if (createdAt != null) {
+            query.setParameter("createdAt", createdAt);
+            query.setParameter("id", id);
+        }
+        bindPreviewLength(query, selection.selects(NoteField.CONTENT), previewLength);
+        return timed("findNotes", query.setMaxResults(limit)::getResultList);
+    }
+
+    private <T> T timed(String method, Supplier<T> query) {
+        return RepositoryObservationPostProcessor
+                .queryObservation(observationRegistry, "FieldProjectionRepository", method)
+                .observe(query);
+    }
+
+    private static void bindPreviewLength(TypedQuery<Tuple> query, boolean used, int previewLength) {
+        if (used) {
+            query.setParameter("previewLength", previewLength);
+        }
+    }
+}
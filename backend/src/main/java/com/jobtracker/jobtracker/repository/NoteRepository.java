@@ -1,11 +1,89 @@
 package com.jobtracker.jobtracker.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import com.jobtracker.jobtracker.model.Note;
 
 public interface NoteRepository extends JpaRepository<Note, Long>{
-    List<Note> findByApplicationIdAndApplicationUserEmail(Long applicationId, String email);
     Optional<Note> findByIdAndApplicationUserEmail(Long id, String email);
+    Optional<Note> findByIdAndApplicationIdAndApplicationUserEmail(Long id, Long applicationId, String email);
+    List<Note> findByApplicationUserEmail(String email);
+
+    /**
+     * First page of an application's notes, newest first, with the content cut
+     * to {@code previewLength} characters in the database.
+     */
+    @Query("""
+            select n.id as id, substring(n.content, 1, :previewLength) as content,
+                   n.createdAt as createdAt, n.updatedAt as updatedAt
+            from Note n
+            where n.application.id = :applicationId
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NoteRow> findPreviewsByApplicationId(@Param("applicationId") Long applicationId,
+                                              @Param("previewLength") int previewLength, Limit limit);
+
+    /**
+     * Next page after the keyset {@code (createdAt, id)} of the last note seen.
+     * The row comparison lets Postgres continue the index range scan instead of
+     * skipping over an offset.
+     */
+    @Query("""
+            select n.id as id, substring(n.content, 1, :previewLength) as content,
+                   n.createdAt as createdAt, n.updatedAt as updatedAt
+            from Note n
+            where n.application.id = :applicationId
+              and (n.createdAt, n.id) < (:createdAt, :id)
+            order by n.createdAt desc, n.id desc
+            """)
+    List<NoteRow> findPreviewsByApplicationIdBefore(@Param("applicationId") Long applicationId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    @Param("previewLength") int previewLength, Limit limit);
+
+    /**
+     * Updates the note only if it belongs to the given application of the given
+     * user and bumps its revision, returning the new row together with the
+     * version it replaced. Empty means nothing matched. The row lock taken while
+     * reading the previous version serializes concurrent edits of one note.
+     */
+    @Transactional
+    @Query(value = """
+            WITH previous AS (
+                SELECT n.id, n.content, n.content_compressed, n.revision, n.updated_at
+                FROM notes n
+                JOIN applications a ON a.id = n.application_id
+                JOIN users u ON u.id = a.user_id
+                WHERE n.id = :noteId AND n.application_id = :applicationId AND u.email = :email
+                FOR UPDATE OF n
+            )
+            UPDATE notes n
+            SET content = :content, content_compressed = :compressed, updated_at = :now,
+                revision = previous.revision + 1
+            FROM previous
+            WHERE n.id = previous.id
+            RETURNING n.id AS "id", n.content AS "content", n.created_at AS "createdAt", n.updated_at AS "updatedAt",
+                      n.revision AS "revision", previous.content AS "previousContent",
+                      previous.content_compressed AS "previousCompressed", previous.updated_at AS "previousUpdatedAt"
+            """, nativeQuery = true)
+    Optional<NoteUpdateRow> updateOwnedNote(@Param("noteId") Long noteId, @Param("applicationId") Long applicationId,
+                                            @Param("email") String email, @Param("content") String content,
+                                            @Param("compressed") byte[] compressed, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            delete from Note n
+            where n.id = :noteId and n.application.id = :applicationId
+              and exists (select a.id from Application a where a.id = :applicationId and a.user.email = :email)
+            """)
+    int deleteOwnedNote(@Param("noteId") Long noteId, @Param("applicationId") Long applicationId,
+                        @Param("email") String email);
 }
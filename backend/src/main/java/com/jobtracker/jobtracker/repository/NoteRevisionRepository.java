@@ -0,0 +1,34 @@
+package com.jobtracker.jobtracker.repository;
+
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import com.jobtracker.jobtracker.model.NoteRevision;
+
+public interface NoteRevisionRepository extends JpaRepository<NoteRevision, Long> {
+
+    @Query("""
+            select r.revision as revision, r.createdAt as createdAt
+            from NoteRevision r
+            where r.note.id = :noteId
+            order by r.revision desc
+            """)
+    List<NoteRevisionSummary> findSummariesByNoteId(@Param("noteId") Long noteId);
+
+    /**
+     * The rows needed to rebuild {@code revision}, newest first: from the nearest
+     * snapshot at or above it down to the revision itself, or from the latest
+     * stored revision when no snapshot lies above it.
+     */
+    @Query("""
+            select r from NoteRevision r
+            where r.note.id = :noteId and r.revision >= :revision
+              and r.revision <= coalesce(
+                    (select min(s.revision) from NoteRevision s
+                     where s.note.id = :noteId and s.revision >= :revision and s.snapshot = true),
+                    r.revision)
+            order by r.revision desc
+            """)
+    List<NoteRevision> findReconstructionChain(@Param("noteId") Long noteId, @Param("revision") int revision);
+}
@@ -0,0 +1,8 @@
+package com.jobtracker.jobtracker.repository;
+
+import java.time.LocalDateTime;
+
+public interface NoteRevisionSummary {
+    Integer getRevision();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,14 @@
+package com.jobtracker.jobtracker.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Column projection of a note as returned by DML statements, kept apart from
+ * the entity so a stale managed instance can never be handed back.
+ */
+public interface NoteRow {
+    Long getId();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,13 @@
+package com.jobtracker.jobtracker.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Result of an in-place note update: the new row plus the version it replaced.
+ */
+public interface NoteUpdateRow extends NoteRow {
+    Integer getRevision();
+    String getPreviousContent();
+    byte[] getPreviousCompressed();
+    LocalDateTime getPreviousUpdatedAt();
+}
@@ -0,0 +1,10 @@
+package com.jobtracker.jobtracker.repository;
+
+/**
+ * A run of sequences taken from a user's change feed at once: the user's id
+ * and the last sequence of the run.
+ */
+public interface SequenceBlock {
+    Long getUserId();
+    Long getLastSequence();
+}
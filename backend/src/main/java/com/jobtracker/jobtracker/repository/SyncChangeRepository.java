@@ -0,0 +1,59 @@
+package com.jobtracker.jobtracker.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import com.jobtracker.jobtracker.model.SyncChange;
+import java.util.List;
+import java.util.Optional;
+
+public interface SyncChangeRepository extends JpaRepository<SyncChange, Long> {
+
+    /**
+     * Takes the user's next sequence and moves the entity's feed row to it in
+     * one statement. The sequence row stays locked until the caller commits,
+     * so a reader never sees a sequence before every lower one is visible.
+     */
+    @Transactional
+    @Query(value = """
+            WITH next AS (
+                INSERT INTO sync_sequences (user_id, last_sequence)
+                SELECT u.id, 1 FROM users u WHERE u.email = :email
+                ON CONFLICT (user_id) DO UPDATE SET last_sequence = sync_sequences.last_sequence + 1
+                RETURNING user_id, last_sequence
+            )
+            INSERT INTO sync_changes (user_id, entity_type, entity_id, application_id, sequence, deleted)
+            SELECT next.user_id, :entityType, :entityId, :applicationId, next.last_sequence, :deleted FROM next
+            ON CONFLICT (user_id, entity_type, entity_id) DO UPDATE
+            SET sequence = EXCLUDED.sequence, deleted = EXCLUDED.deleted
+            RETURNING sequence
+            """, nativeQuery = true)
+    long recordChange(@Param("email") String email, @Param("entityType") String entityType,
+                      @Param("entityId") Long entityId, @Param("applicationId") Long applicationId,
+                      @Param("deleted") boolean deleted);
+
+    /**
+     * Takes the user's next {@code count} sequences in one statement, for
+     * feed rows written together. The sequence row stays locked until the
+     * caller commits, as with {@link #recordChange}.
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO sync_sequences (user_id, last_sequence)
+            SELECT u.id, :count FROM users u WHERE u.email = :email
+            ON CONFLICT (user_id) DO UPDATE SET last_sequence = sync_sequences.last_sequence + :count
+            RETURNING user_id AS "userId", last_sequence AS "lastSequence"
+            """, nativeQuery = true)
+    Optional<SequenceBlock> reserveSequences(@Param("email") String email, @Param("count") int count);
+
+    // Range scan over idx_sync_changes_user_sequence
+    List<SyncChange> findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(Long userId, long sequence, Limit limit);
+
+    @Query("select s.lastSequence from SyncSequence s where s.userId = :userId")
+    Optional<Long> findLastSequence(@Param("userId") Long userId);
+
+    @Query("select s.lastSequence from SyncSequence s, User u where u.id = s.userId and u.email = :email")
+    Optional<Long> findLastSequenceByEmail(@Param("email") String email);
+}
@@ -1,63 +1,187 @@
 package com.jobtracker.jobtracker.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.jobtracker.jobtracker.cache.ApplicationCache;
 import com.jobtracker.jobtracker.dto.ApplicationRequest;
 import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.event.ApplicationChangedEvent;
 import com.jobtracker.jobtracker.exception.ApplicationNotFoundException;
 import com.jobtracker.jobtracker.model.Application;
 import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.projection.ApplicationField;
+import com.jobtracker.jobtracker.projection.FieldSelection;
+import com.jobtracker.jobtracker.projection.FieldSelections;
 import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.FieldProjectionRepository;
 import com.jobtracker.jobtracker.repository.UserRepository;
+import jakarta.persistence.Tuple;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import java.io.OutputStream;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class ApplicationService {
+
+    static final int NOTE_PREVIEW_LENGTH = 120;
+    static final FieldSelections<ApplicationField> FIELDS = new FieldSelections<>(ApplicationField.class, Set.of());
+    // What a streamed list holds when no fields are requested: the fields of ApplicationResponse
+    static final Set<ApplicationField> RESPONSE_FIELDS = EnumSet.range(ApplicationField.ID, ApplicationField.UPDATED_AT);
+    static final int STREAM_FETCH_SIZE = 500;
     
     private final ApplicationRepository applicationRepository;
     private final UserRepository userRepository;
+    private final ApplicationCache applicationCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeLog changeLog;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    // A failed stream must end as broken JSON, not be closed into a valid but partial array
+    private final ObjectWriter streamWriter;
 
-    public ApplicationService(ApplicationRepository applicationRepository, UserRepository userRepository) {
+    public ApplicationService(ApplicationRepository applicationRepository, UserRepository userRepository,
+                              ApplicationCache applicationCache, ApplicationEventPublisher eventPublisher,
+                              ChangeLog changeLog, FieldProjectionRepository fieldProjectionRepository,
+                              ObjectMapper objectMapper) {
         this.applicationRepository = applicationRepository;
         this.userRepository = userRepository;
+        this.applicationCache = applicationCache;
+        this.eventPublisher = eventPublisher;
+        this.changeLog = changeLog;
+        this.fieldProjectionRepository = fieldProjectionRepository;
+        this.streamWriter = objectMapper.writer()
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET)
+                .without(StreamWriteFeature.AUTO_CLOSE_CONTENT);
     }
 
     // -- Public API ----------------------------------------------------
 
-    @Transactional(readOnly = true)
+    // Cached reads are deliberately not @Transactional: a cache hit should not check out a connection.
+
     public List<ApplicationResponse> getAllApplications(String email) {
-        return applicationRepository.findByUserEmail(email)
+        return applicationCache.getAll(email, false, () -> applicationRepository.findByUserEmail(email)
                 .stream()
-                .map(this::mapToResponse)
+                .map(ApplicationService::mapToResponse)
+                .toList());
+    }
+
+    public List<ApplicationResponse> getAllApplicationsWithNoteSummary(String email) {
+        return applicationCache.getAll(email, true, () -> applicationRepository
+                .findWithNoteSummaryByUserEmail(email, NOTE_PREVIEW_LENGTH)
+                .stream()
+                .map(this::mapToResponseWithNoteSummary)
+                .toList());
+    }
+
+    public ApplicationResponse getApplicationById(Long id, String email) {
+        return applicationCache.get(id, email, () -> mapToResponse(findByIdAndEmail(id, email)));
+    }
+
+    // Sparse reads select only the requested columns and bypass the cache of full responses.
+
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllApplications(String email, String fields) {
+        FieldSelection<ApplicationField> selection = FIELDS.parse(fields);
+        return fieldProjectionRepository.findApplications(selection, email, NOTE_PREVIEW_LENGTH).stream()
+                .map(selection::toJson)
                 .toList();
     }
 
     @Transactional(readOnly = true)
-    public ApplicationResponse getApplicationById(Long id, String email) {
-        Application application = findByIdAndEmail(id, email);
-        return mapToResponse(application);
+    public Map<String, Object> getApplicationById(Long id, String email, String fields) {
+        FieldSelection<ApplicationField> selection = FIELDS.parse(fields);
+        return fieldProjectionRepository.findApplication(selection, id, email, NOTE_PREVIEW_LENGTH)
+                .map(selection::toJson)
+                .orElseThrow(() -> new ApplicationNotFoundException(id));
+    }
+
+    /**
+     * Resolves the fields of a streamed list up front, so an invalid selection
+     * is rejected before the response starts.
+     */
+    public FieldSelection<ApplicationField> selectStreamFields(String fields) {
+        return fields == null ? FIELDS.of(RESPONSE_FIELDS) : FIELDS.parse(fields);
+    }
+
+    /**
+     * Writes the user's applications as a JSON array while they are read from a
+     * database cursor: no list of rows or response objects is built, and one
+     * generator serves every row. The first row is flushed on its own so the
+     * client sees bytes as soon as the query returns.
+     */
+    @Transactional(readOnly = true)
+    public void writeAllApplications(String email, FieldSelection<ApplicationField> selection, OutputStream out) {
+        try (Stream<Tuple> rows = fieldProjectionRepository.streamApplications(
+                     selection, email, NOTE_PREVIEW_LENGTH, STREAM_FETCH_SIZE);
+             JsonGenerator generator = streamWriter.createGenerator(out)) {
+            generator.writeStartArray();
+            Iterator<Tuple> iterator = rows.iterator();
+            if (iterator.hasNext()) {
+                selection.writeJson(generator, iterator.next());
+                generator.flush();
+            }
+            while (iterator.hasNext()) {
+                selection.writeJson(generator, iterator.next());
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ApplicationResponse getApplicationWithNotes(Long id, String email) {
+        Application application = applicationRepository.findWithNotesByIdAndUserEmail(id, email)
+                .orElseThrow(() -> new ApplicationNotFoundException(id));
+        ApplicationResponse response = mapToResponse(application);
+        response.setNotes(application.getNotes().stream()
+                .map(NoteService::mapToResponse)
+                .toList());
+        return response;
     }
 
     @Transactional
     public ApplicationResponse createApplication(ApplicationRequest request, String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalStateException("Authenticated user not found: " + email));
-        Application application = mapToEntity(request, user);
-        return mapToResponse(applicationRepository.save(application));
+        return createApplication(request, user);
+    }
+
+    /**
+     * Creates an application for a user the caller has already loaded, so a batch
+     * of creates looks the user up once.
+     */
+    @Transactional
+    public ApplicationResponse createApplication(ApplicationRequest request, User user) {
+        Application application = applicationRepository.save(mapToEntity(request, user));
+        changeLog.applicationChanged(user.getEmail(), application.getId());
+        eventPublisher.publishEvent(new ApplicationChangedEvent(user.getEmail(), application.getId()));
+        return mapToResponse(application);
     }
     
     @Transactional
     public ApplicationResponse updateApplication(Long id, ApplicationRequest request, String email) {
         Application application = findByIdAndEmail(id, email);
         applyUpdates(application, request);
-        return mapToResponse(applicationRepository.save(application));
+        application = applicationRepository.save(application);
+        changeLog.applicationChanged(email, id);
+        eventPublisher.publishEvent(new ApplicationChangedEvent(email, id));
+        return mapToResponse(application);
     }
 
     @Transactional
     public void deleteApplication(Long id, String email) {
         Application application = findByIdAndEmail(id, email);
         applicationRepository.delete(application);
+        changeLog.applicationDeleted(email, id);
+        eventPublisher.publishEvent(new ApplicationChangedEvent(email, id));
     }
 
     // -- Private helpers -----------------------------------------------
@@ -88,7 +212,14 @@ public class ApplicationService {
         return application;
     }
 
-    private ApplicationResponse mapToResponse(Application application) {
+    private ApplicationResponse mapToResponseWithNoteSummary(Object[] row) {
+        ApplicationResponse response = mapToResponse((Application) row[0]);
+        response.setNoteCount((Long) row[1]);
+        response.setLatestNotePreview((String) row[2]);
+        return response;
+    }
+
+    static ApplicationResponse mapToResponse(Application application) {
         ApplicationResponse response = new ApplicationResponse();
         response.setId(application.getId());
         response.setCompanyName(application.getCompanyName());
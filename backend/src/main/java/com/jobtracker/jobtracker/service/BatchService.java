@@ -0,0 +1,243 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.dto.BatchMode;
+import com.jobtracker.jobtracker.dto.BatchOperation;
+import com.jobtracker.jobtracker.dto.BatchRequest;
+import com.jobtracker.jobtracker.dto.BatchResponse;
+import com.jobtracker.jobtracker.dto.BatchResult;
+import com.jobtracker.jobtracker.dto.NoteRequest;
+import com.jobtracker.jobtracker.dto.NoteResponse;
+import com.jobtracker.jobtracker.exception.ApplicationNotFoundException;
+import com.jobtracker.jobtracker.exception.NoteNotFoundException;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Executes an ordered list of application and note operations with the same
+ * semantics as the individual endpoints.
+ *
+ * Atomic batches run in a single transaction, so the writes share one
+ * connection and one commit, and their change feed entries are written
+ * together in one JDBC batch once every operation succeeded; the first
+ * failing operation rolls everything back. Independent batches commit every
+ * operation, and its feed entry, on its own.
+ */
+@Service
+public class BatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchService.class);
+
+    private final ApplicationService applicationService;
+    private final NoteService noteService;
+    private final ChangeLog changeLog;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    public BatchService(ApplicationService applicationService, NoteService noteService, ChangeLog changeLog,
+                        UserRepository userRepository, TransactionTemplate transactionTemplate,
+                        Validator validator, ObjectMapper objectMapper) {
+        this.applicationService = applicationService;
+        this.noteService = noteService;
+        this.changeLog = changeLog;
+        this.userRepository = userRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+    }
+
+    // -- Public API ----------------------------------------------------
+
+    public BatchResponse execute(BatchRequest request, String email) {
+        List<BatchOperation> operations = request.getOperations();
+        BatchContext context = new BatchContext(email);
+        if (request.getMode() == BatchMode.INDEPENDENT) {
+            List<BatchResult> results = new ArrayList<>(operations.size());
+            for (int i = 0; i < operations.size(); i++) {
+                results.add(executeOperation(i, operations.get(i), context));
+            }
+            return new BatchResponse(null, results);
+        }
+
+        return transactionTemplate.execute(status -> {
+            changeLog.deferWrites();
+            List<BatchResult> results = new ArrayList<>(operations.size());
+            for (int i = 0; i < operations.size(); i++) {
+                BatchResult result = executeOperation(i, operations.get(i), context);
+                if (!result.isSuccessful()) {
+                    status.setRollbackOnly();
+                    return new BatchResponse(false, rolledBack(result, operations.size()));
+                }
+                results.add(result);
+            }
+            changeLog.writeDeferred();
+            return new BatchResponse(true, results);
+        });
+    }
+
+    // -- Operations ----------------------------------------------------
+
+    private BatchResult executeOperation(int index, BatchOperation operation, BatchContext context) {
+        try {
+            return switch (operation.getOp()) {
+                case CREATE_APPLICATION -> {
+                    ApplicationResponse created = applicationService.createApplication(
+                            readBody(operation, ApplicationRequest.class), context.user());
+                    context.register(context.applicationRefs, operation.getTempId(), created.getId());
+                    yield BatchResult.success(index, HttpStatus.CREATED.value(), operation.getTempId(), created.getId(), created);
+                }
+                case UPDATE_APPLICATION -> {
+                    ApplicationResponse updated = applicationService.updateApplication(
+                            context.applicationId(operation), readBody(operation, ApplicationRequest.class), context.email);
+                    yield BatchResult.success(index, HttpStatus.OK.value(), null, updated.getId(), updated);
+                }
+                case DELETE_APPLICATION -> {
+                    Long applicationId = context.applicationId(operation);
+                    applicationService.deleteApplication(applicationId, context.email);
+                    yield BatchResult.success(index, HttpStatus.NO_CONTENT.value(), null, applicationId, null);
+                }
+                case CREATE_NOTE -> {
+                    NoteResponse created = noteService.createNote(
+                            context.applicationId(operation), readBody(operation, NoteRequest.class), context.email);
+                    context.register(context.noteRefs, operation.getTempId(), created.getId());
+                    yield BatchResult.success(index, HttpStatus.CREATED.value(), operation.getTempId(), created.getId(), created);
+                }
+                case UPDATE_NOTE -> {
+                    NoteResponse updated = noteService.updateNote(context.applicationId(operation),
+                            context.noteId(operation), readBody(operation, NoteRequest.class), context.email);
+                    yield BatchResult.success(index, HttpStatus.OK.value(), null, updated.getId(), updated);
+                }
+                case DELETE_NOTE -> {
+                    Long noteId = context.noteId(operation);
+                    noteService.deleteNote(context.applicationId(operation), noteId, context.email);
+                    yield BatchResult.success(index, HttpStatus.NO_CONTENT.value(), null, noteId, null);
+                }
+            };
+        } catch (InvalidOperationException ex) {
+            BatchResult result = BatchResult.failure(index, HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+            result.setFieldErrors(ex.fieldErrors);
+            return result;
+        } catch (ApplicationNotFoundException | NoteNotFoundException ex) {
+            return BatchResult.failure(index, HttpStatus.NOT_FOUND.value(), ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Batch operation {} ({}) failed", index, operation.getOp(), ex);
+            return BatchResult.failure(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), "Operation failed");
+        }
+    }
+
+    private <T> T readBody(BatchOperation operation, Class<T> type) {
+        if (operation.getBody() == null || operation.getBody().isNull()) {
+            throw new InvalidOperationException("Request body is missing or malformed");
+        }
+        T body;
+        try {
+            body = objectMapper.treeToValue(operation.getBody(), type);
+        } catch (JacksonException ex) {
+            throw new InvalidOperationException("Request body is missing or malformed");
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(body);
+        if (!violations.isEmpty()) {
+            Map<String, String> fieldErrors = new TreeMap<>();
+            violations.forEach(v -> fieldErrors.put(v.getPropertyPath().toString(), v.getMessage()));
+            InvalidOperationException ex = new InvalidOperationException("Validation failed");
+            ex.fieldErrors = fieldErrors;
+            throw ex;
+        }
+        return body;
+    }
+
+    private static List<BatchResult> rolledBack(BatchResult failure, int size) {
+        List<BatchResult> results = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (i == failure.getIndex()) {
+                results.add(failure);
+            } else {
+                String reason = i < failure.getIndex() ? "Rolled back" : "Not executed";
+                results.add(BatchResult.failure(i, HttpStatus.FAILED_DEPENDENCY.value(),
+                        reason + " because operation " + failure.getIndex() + " failed"));
+            }
+        }
+        return results;
+    }
+
+    // -- Per-batch state -----------------------------------------------
+
+    private final class BatchContext {
+
+        private final String email;
+        private final Map<String, Long> applicationRefs = new HashMap<>();
+        private final Map<String, Long> noteRefs = new HashMap<>();
+        private User user;
+
+        private BatchContext(String email) {
+            this.email = email;
+        }
+
+        // Resolved on first use and reused by every later create in the batch
+        private User user() {
+            if (user == null) {
+                user = userRepository.findByEmail(email)
+                        .orElseThrow(() -> new IllegalStateException("Authenticated user not found: " + email));
+            }
+            return user;
+        }
+
+        private Long applicationId(BatchOperation operation) {
+            return resolve(operation.getApplicationId(), operation.getApplicationRef(), applicationRefs, "application");
+        }
+
+        private Long noteId(BatchOperation operation) {
+            return resolve(operation.getNoteId(), operation.getNoteRef(), noteRefs, "note");
+        }
+
+        private void register(Map<String, Long> refs, String tempId, Long id) {
+            if (tempId != null) {
+                refs.put(tempId, id);
+            }
+        }
+
+        private Long resolve(Long id, String ref, Map<String, Long> refs, String kind) {
+            if (id != null && ref != null) {
+                throw new InvalidOperationException("Give either " + kind + "Id or " + kind + "Ref, not both");
+            }
+            if (ref == null) {
+                if (id == null) {
+                    throw new InvalidOperationException(kind + "Id or " + kind + "Ref is required");
+                }
+                return id;
+            }
+            Long resolved = refs.get(ref);
+            if (resolved == null) {
+                throw new InvalidOperationException("Unknown " + kind + "Ref: " + ref);
+            }
+            return resolved;
+        }
+    }
+
+    private static final class InvalidOperationException extends RuntimeException {
+
+        private Map<String, String> fieldErrors;
+
+        private InvalidOperationException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.event.EntityChangedEvent;
+import com.jobtracker.jobtracker.model.SyncEntityType;
+import com.jobtracker.jobtracker.repository.SequenceBlock;
+import com.jobtracker.jobtracker.repository.SyncChangeRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records writes in the per-user change feed served by {@link SyncService}.
+ * Called inside the writing transaction, so a change and its feed entry
+ * commit or roll back together.
+ *
+ * Each entry is written as it is recorded, unless the transaction has called
+ * {@link #deferWrites()}: then entries are held until {@link #writeDeferred()},
+ * which takes a run of sequences per user in one statement and writes the
+ * rows in one JDBC batch.
+ */
+@Component
+public class ChangeLog {
+
+    private static final String INSERT_CHANGE = """
+            INSERT INTO sync_changes (user_id, entity_type, entity_id, application_id, sequence, deleted)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, entity_type, entity_id) DO UPDATE
+            SET sequence = EXCLUDED.sequence, deleted = EXCLUDED.deleted
+            """;
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ChangeLog(SyncChangeRepository syncChangeRepository, JdbcTemplate jdbcTemplate,
+                     ApplicationEventPublisher eventPublisher) {
+        this.syncChangeRepository = syncChangeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void applicationChanged(String email, Long applicationId) {
+        record(email, SyncEntityType.APPLICATION, applicationId, applicationId, false);
+    }
+
+    // The application's notes go with it; clients drop them on the application tombstone.
+    public void applicationDeleted(String email, Long applicationId) {
+        record(email, SyncEntityType.APPLICATION, applicationId, applicationId, true);
+    }
+
+    public void noteChanged(String email, Long applicationId, Long noteId) {
+        record(email, SyncEntityType.NOTE, noteId, applicationId, false);
+    }
+
+    public void noteDeleted(String email, Long applicationId, Long noteId) {
+        record(email, SyncEntityType.NOTE, noteId, applicationId, true);
+    }
+
+    // -- Deferred writes -------------------------------------------------
+
+    /**
+     * Holds back the entries recorded in the current transaction until
+     * {@link #writeDeferred()}. Entries still held when the transaction ends
+     * are dropped with it, which is what a rollback needs.
+     */
+    public void deferWrites() {
+        TransactionSynchronizationManager.bindResource(this, new ArrayList<PendingChange>());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLog.this);
+            }
+        });
+    }
+
+    /**
+     * Writes the entries held since {@link #deferWrites()}, in the order they
+     * were recorded, and records any later ones as they come again.
+     */
+    public void writeDeferred() {
+        List<PendingChange> pending = pending();
+        TransactionSynchronizationManager.unbindResourceIfPossible(this);
+        if (pending == null || pending.isEmpty()) {
+            return;
+        }
+        Map<String, List<PendingChange>> byOwner = new LinkedHashMap<>();
+        for (PendingChange change : pending) {
+            byOwner.computeIfAbsent(change.email(), email -> new ArrayList<>()).add(change);
+        }
+        byOwner.forEach(this::writeBatch);
+    }
+
+    private void writeBatch(String email, List<PendingChange> changes) {
+        SequenceBlock block = syncChangeRepository.reserveSequences(email, changes.size())
+                .orElseThrow(() -> new IllegalStateException("Change feed owner not found: " + email));
+        long firstSequence = block.getLastSequence() - changes.size() + 1;
+        jdbcTemplate.batchUpdate(INSERT_CHANGE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                PendingChange change = changes.get(i);
+                statement.setLong(1, block.getUserId());
+                statement.setString(2, change.type().name());
+                statement.setLong(3, change.entityId());
+                statement.setLong(4, change.applicationId());
+                statement.setLong(5, firstSequence + i);
+                statement.setBoolean(6, change.deleted());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return changes.size();
+            }
+        });
+        for (int i = 0; i < changes.size(); i++) {
+            PendingChange change = changes.get(i);
+            eventPublisher.publishEvent(new EntityChangedEvent(email, change.type(), change.entityId(),
+                    change.applicationId(), change.deleted(), firstSequence + i));
+        }
+    }
+
+    // -- Helpers ---------------------------------------------------------
+
+    private void record(String email, SyncEntityType type, Long entityId, Long applicationId, boolean deleted) {
+        List<PendingChange> pending = pending();
+        if (pending != null) {
+            pending.add(new PendingChange(email, type, entityId, applicationId, deleted));
+            return;
+        }
+        long sequence = syncChangeRepository.recordChange(email, type.name(), entityId, applicationId, deleted);
+        eventPublisher.publishEvent(new EntityChangedEvent(email, type, entityId, applicationId, deleted, sequence));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PendingChange> pending() {
+        return (List<PendingChange>) TransactionSynchronizationManager.getResource(this);
+    }
+
+    private record PendingChange(String email, SyncEntityType type, Long entityId, Long applicationId,
+                                 boolean deleted) {}
+}
@@ -1,7 +1,10 @@
 package com.jobtracker.jobtracker.service;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import javax.crypto.SecretKey;
 import org.springframework.beans.factory.annotation.Value;
 import java.nio.charset.StandardCharsets;
@@ -17,22 +20,29 @@ public class JwtService {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    private final Timer signTimer;
+    private final Timer verifyTimer;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.signTimer = Timer.builder("jwt.sign")
+                .description("Time to issue a signed token")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("Time to verify a token signature and parse its claims")
+                .register(meterRegistry);
+    }
+
     public String generateToken(String email) {
-        return Jwts.builder()
+        return signTimer.record(() -> Jwts.builder()
                 .subject(email)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .signWith(getSigningKey())
-                .compact();
+                .compact());
     }
 
     public String extractEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+        return parseClaims(token).getSubject();
     }
 
     public boolean isTokenValid(String token, String email) {
@@ -40,13 +50,15 @@ public class JwtService {
     }
 
     private boolean isTokenExpired(String token) {
-        return Jwts.parser()
+        return parseClaims(token).getExpiration().before(new Date());
+    }
+
+    private Claims parseClaims(String token) {
+        return verifyTimer.record(() -> Jwts.parser()
                 .verifyWith(getSigningKey())
                 .build()
                 .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+                .getPayload());
     }
 
     private SecretKey getSigningKey() {
@@ -0,0 +1,112 @@
+package com.jobtracker.jobtracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Decides how a note body is stored.
+ *
+ * With compression enabled, bodies of at least the configured size are
+ * deflated into {@code content_compressed} and {@code content} keeps only the
+ * leading characters needed for list previews, so listing never inflates
+ * anything. Reads understand both forms, which makes the mode safe to switch
+ * on or off at any time.
+ */
+@Component
+public class NoteContentCodec {
+
+    // Previews need one character beyond their length to know they were cut.
+    static final int STORED_PREFIX_LENGTH = NoteService.NOTE_PREVIEW_LENGTH + 1;
+
+    private final boolean enabled;
+    private final long thresholdBytes;
+    private final int level;
+
+    public NoteContentCodec(@Value("${notes.compression.enabled:false}") boolean enabled,
+                            @Value("${notes.compression.threshold:4KB}") DataSize threshold,
+                            @Value("${notes.compression.level:6}") int level) {
+        if (level < Deflater.BEST_SPEED || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Invalid note compression level: " + level);
+        }
+        this.enabled = enabled;
+        this.thresholdBytes = threshold.toBytes();
+        this.level = level;
+    }
+
+    public StoredContent encode(String content) {
+        if (!enabled) {
+            return new StoredContent(content, null);
+        }
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return new StoredContent(content, null);
+        }
+        byte[] compressed = deflate(raw, level);
+        if (compressed.length >= raw.length) {
+            // Not worth it (already compressed or random text)
+            return new StoredContent(content, null);
+        }
+        return new StoredContent(prefix(content), compressed);
+    }
+
+    public static String decode(String content, byte[] compressed) {
+        return compressed == null ? content : new String(inflate(compressed), StandardCharsets.UTF_8);
+    }
+
+    // -- Deflate -------------------------------------------------------
+
+    static byte[] deflate(byte[] input, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] inflate(byte[] input) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated compressed note content");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException ex) {
+            throw new IllegalStateException("Corrupt compressed note content", ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static String prefix(String content) {
+        if (content.codePointCount(0, content.length()) <= STORED_PREFIX_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, STORED_PREFIX_LENGTH));
+    }
+
+    /**
+     * Column values for a note body; {@code compressed} is null when stored as plain text.
+     */
+    public record StoredContent(String content, byte[] compressed) {}
+}
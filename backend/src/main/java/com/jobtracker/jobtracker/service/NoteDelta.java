@@ -0,0 +1,130 @@
+package com.jobtracker.jobtracker.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Copy/insert delta between two versions of a note body.
+ *
+ * The base is indexed in fixed-size blocks; the target is scanned for those
+ * blocks and every hit is extended in both directions into a COPY of base
+ * characters, with the unmatched text in between emitted as INSERTs. The
+ * encoded size therefore follows the size of the edit rather than the size
+ * of the note, including edits in several places or moved paragraphs.
+ */
+final class NoteDelta {
+
+    static final int BLOCK_SIZE = 16;
+
+    private static final int COPY = 0;
+    private static final int INSERT = 1;
+    // writeUTF is limited to 65535 bytes, i.e. at most 21845 chars of 3 bytes
+    private static final int MAX_INSERT_CHARS = 16_384;
+
+    private NoteDelta() {}
+
+    /**
+     * Encodes the operations that rebuild {@code target} from {@code base}.
+     */
+    static byte[] diff(String base, String target) {
+        Map<String, Integer> blocks = new HashMap<>();
+        for (int offset = 0; offset + BLOCK_SIZE <= base.length(); offset += BLOCK_SIZE) {
+            blocks.putIfAbsent(base.substring(offset, offset + BLOCK_SIZE), offset);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            int literalStart = 0;
+            int position = 0;
+            while (position + BLOCK_SIZE <= target.length()) {
+                Integer match = blocks.get(target.substring(position, position + BLOCK_SIZE));
+                if (match == null) {
+                    position++;
+                    continue;
+                }
+                int baseStart = match;
+                int targetStart = position;
+                while (targetStart > literalStart && baseStart > 0
+                        && base.charAt(baseStart - 1) == target.charAt(targetStart - 1)) {
+                    baseStart--;
+                    targetStart--;
+                }
+                int length = position - targetStart + BLOCK_SIZE;
+                while (targetStart + length < target.length() && baseStart + length < base.length()
+                        && base.charAt(baseStart + length) == target.charAt(targetStart + length)) {
+                    length++;
+                }
+                writeInsert(out, target, literalStart, targetStart);
+                out.writeByte(COPY);
+                writeVarInt(out, baseStart);
+                writeVarInt(out, length);
+                position = targetStart + length;
+                literalStart = position;
+            }
+            writeInsert(out, target, literalStart, target.length());
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    static String apply(String base, byte[] delta) {
+        StringBuilder result = new StringBuilder(base.length());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(delta));
+        try {
+            while (in.available() > 0) {
+                int op = in.readUnsignedByte();
+                if (op == COPY) {
+                    int offset = readVarInt(in);
+                    result.append(base, offset, offset + readVarInt(in));
+                } else if (op == INSERT) {
+                    result.append(in.readUTF());
+                } else {
+                    throw new IllegalStateException("Corrupt note delta: unknown op " + op);
+                }
+            }
+        } catch (IOException | IndexOutOfBoundsException ex) {
+            throw new IllegalStateException("Corrupt note delta", ex);
+        }
+        return result.toString();
+    }
+
+    // -- Encoding ------------------------------------------------------
+
+    // Modified UTF-8 encodes each char on its own, so a surrogate pair split
+    // across a COPY/INSERT boundary still round-trips.
+    private static void writeInsert(DataOutputStream out, String text, int from, int to) throws IOException {
+        for (int start = from; start < to; start += MAX_INSERT_CHARS) {
+            out.writeByte(INSERT);
+            out.writeUTF(text.substring(start, Math.min(to, start + MAX_INSERT_CHARS)));
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Corrupt note delta: varint too long");
+    }
+}
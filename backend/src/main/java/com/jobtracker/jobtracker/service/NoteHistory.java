@@ -0,0 +1,97 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.exception.NoteRevisionNotFoundException;
+import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.model.NoteRevision;
+import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.NoteRevisionRepository;
+import com.jobtracker.jobtracker.repository.NoteRevisionSummary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * Storage of superseded note versions.
+ *
+ * Versions are stored as reverse deltas against the version that replaced
+ * them, so an edit costs roughly the size of the change. Every
+ * {@code snapshotInterval}-th revision, and any revision whose delta would not
+ * be smaller than the text itself, is stored as a full deflated snapshot;
+ * rebuilding a revision therefore never applies more than that many deltas.
+ */
+@Component
+public class NoteHistory {
+
+    private final NoteRevisionRepository revisionRepository;
+    private final NoteRepository noteRepository;
+    private final int snapshotInterval;
+
+    public NoteHistory(NoteRevisionRepository revisionRepository, NoteRepository noteRepository,
+                       @Value("${notes.revisions.snapshot-interval:10}") int snapshotInterval) {
+        if (snapshotInterval < 1) {
+            throw new IllegalArgumentException("Invalid note snapshot interval: " + snapshotInterval);
+        }
+        this.revisionRepository = revisionRepository;
+        this.noteRepository = noteRepository;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Keeps {@code revision}, which has just been replaced by {@code replacement}.
+     * Must run in the transaction that performed the update.
+     */
+    void recordReplaced(Long noteId, int revision, String replaced, String replacement, LocalDateTime writtenAt) {
+        byte[] delta = NoteDelta.diff(replacement, replaced);
+        byte[] text = replaced.getBytes(StandardCharsets.UTF_8);
+        boolean snapshot = revision % snapshotInterval == 0 || delta.length >= text.length;
+
+        NoteRevision row = new NoteRevision();
+        row.setNote(noteRepository.getReferenceById(noteId));
+        row.setRevision(revision);
+        row.setSnapshot(snapshot);
+        row.setData(snapshot ? NoteContentCodec.deflate(text, Deflater.DEFAULT_COMPRESSION) : delta);
+        row.setCreatedAt(writtenAt);
+        revisionRepository.save(row);
+    }
+
+    List<NoteRevisionSummary> summaries(Long noteId) {
+        return revisionRepository.findSummariesByNoteId(noteId);
+    }
+
+    Version reconstruct(Note note, int revision) {
+        if (revision == note.getRevision()) {
+            return new Version(revision, note.getUpdatedAt(), currentContent(note));
+        }
+        if (revision < 1 || revision > note.getRevision()) {
+            throw new NoteRevisionNotFoundException(note.getId(), revision);
+        }
+        List<NoteRevision> chain = revisionRepository.findReconstructionChain(note.getId(), revision);
+        if (chain.isEmpty() || chain.get(chain.size() - 1).getRevision() != revision) {
+            // Notes written before history was kept have no rows for their early versions
+            throw new NoteRevisionNotFoundException(note.getId(), revision);
+        }
+
+        String content = null;
+        int expected = chain.get(0).isSnapshot() ? chain.get(0).getRevision() : note.getRevision() - 1;
+        for (NoteRevision row : chain) {
+            if (row.getRevision() != expected--) {
+                throw new IllegalStateException("Gap in revisions of note " + note.getId() + " at " + row.getRevision());
+            }
+            if (row.isSnapshot()) {
+                content = new String(NoteContentCodec.inflate(row.getData()), StandardCharsets.UTF_8);
+            } else {
+                content = NoteDelta.apply(content != null ? content : currentContent(note), row.getData());
+            }
+        }
+        return new Version(revision, chain.get(chain.size() - 1).getCreatedAt(), content);
+    }
+
+    private static String currentContent(Note note) {
+        return NoteContentCodec.decode(note.getContent(), note.getContentCompressed());
+    }
+
+    record Version(int revision, LocalDateTime createdAt, String content) {}
+}
@@ -1,86 +1,258 @@
 package com.jobtracker.jobtracker.service;
 
+import com.jobtracker.jobtracker.dto.NotePageResponse;
 import com.jobtracker.jobtracker.dto.NoteRequest;
 import com.jobtracker.jobtracker.dto.NoteResponse;
+import com.jobtracker.jobtracker.dto.NoteRevisionResponse;
+import com.jobtracker.jobtracker.event.ApplicationChangedEvent;
 import com.jobtracker.jobtracker.exception.ApplicationNotFoundException;
 import com.jobtracker.jobtracker.exception.NoteNotFoundException;
-import com.jobtracker.jobtracker.model.Application;
 import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.projection.FieldSelection;
+import com.jobtracker.jobtracker.projection.FieldSelections;
+import com.jobtracker.jobtracker.projection.NoteField;
 import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.FieldProjectionRepository;
 import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.NoteRow;
+import com.jobtracker.jobtracker.repository.NoteUpdateRow;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.Tuple;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class NoteService {
 
+    static final int NOTE_PREVIEW_LENGTH = 500;
+    static final int MAX_PAGE_SIZE = 100;
+    // The keyset columns are read for the next cursor even when not requested
+    static final FieldSelections<NoteField> FIELDS =
+            new FieldSelections<>(NoteField.class, EnumSet.of(NoteField.ID, NoteField.CREATED_AT));
+
     private final NoteRepository noteRepository;
     private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NoteContentCodec contentCodec;
+    private final NoteHistory noteHistory;
+    private final ChangeLog changeLog;
+    private final FieldProjectionRepository fieldProjectionRepository;
 
-    public NoteService(NoteRepository noteRepository, ApplicationRepository applicationRepository) {
+    public NoteService(NoteRepository noteRepository, ApplicationRepository applicationRepository,
+                       ApplicationEventPublisher eventPublisher, NoteContentCodec contentCodec,
+                       NoteHistory noteHistory, ChangeLog changeLog,
+                       FieldProjectionRepository fieldProjectionRepository) {
         this.noteRepository = noteRepository;
         this.applicationRepository = applicationRepository;
+        this.eventPublisher = eventPublisher;
+        this.contentCodec = contentCodec;
+        this.noteHistory = noteHistory;
+        this.changeLog = changeLog;
+        this.fieldProjectionRepository = fieldProjectionRepository;
     }
 
     // -- Public API ----------------------------------------------------
 
+    /**
+     * One page of an application's notes, newest first. Each note carries at most
+     * {@link #NOTE_PREVIEW_LENGTH} characters; the full body comes from {@link #getNote}.
+     */
     @Transactional(readOnly = true)
-    public List<NoteResponse> getAllNotes(Long applicationId, String email) {
+    public NotePageResponse<NoteResponse> getNotes(Long applicationId, String cursor, int limit, String email) {
         verifyApplicationOwnership(applicationId, email);
-        return noteRepository.findByApplicationIdAndApplicationUserEmail(applicationId, email)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        // One extra row tells us whether another page exists; one extra character whether a note was cut.
+        Limit fetch = Limit.of(pageSize + 1);
+        int previewLength = NOTE_PREVIEW_LENGTH + 1;
+        List<NoteRow> rows;
+        if (cursor == null || cursor.isEmpty()) {
+            rows = noteRepository.findPreviewsByApplicationId(applicationId, previewLength, fetch);
+        } else {
+            NoteCursor after = NoteCursor.decode(cursor);
+            rows = noteRepository.findPreviewsByApplicationIdBefore(
+                    applicationId, after.createdAt(), after.id(), previewLength, fetch);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<NoteRow> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            NoteRow last = page.get(page.size() - 1);
+            nextCursor = new NoteCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new NotePageResponse<>(page.stream().map(NoteService::mapToPreview).toList(), nextCursor);
+    }
+
+    /**
+     * The same page as {@link #getNotes}, selecting and returning only the requested fields.
+     */
+    @Transactional(readOnly = true)
+    public NotePageResponse<Map<String, Object>> getNotes(Long applicationId, String cursor, int limit,
+                                                         String fields, String email) {
+        FieldSelection<NoteField> selection = FIELDS.parse(fields);
+        verifyApplicationOwnership(applicationId, email);
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        NoteCursor after = cursor == null || cursor.isEmpty() ? null : NoteCursor.decode(cursor);
+        List<Tuple> rows = fieldProjectionRepository.findNotes(selection, applicationId,
+                after == null ? null : after.createdAt(), after == null ? null : after.id(),
+                NOTE_PREVIEW_LENGTH + 1, pageSize + 1);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<Tuple> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Tuple last = page.get(page.size() - 1);
+            nextCursor = new NoteCursor((LocalDateTime) selection.get(last, NoteField.CREATED_AT),
+                    (Long) selection.get(last, NoteField.ID)).encode();
+        }
+        return new NotePageResponse<>(page.stream().map(row -> mapToPreview(selection, row)).toList(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public NoteResponse getNote(Long applicationId, Long noteId, String email) {
+        return mapToResponse(findOwnedNote(applicationId, noteId, email));
+    }
+
+    /**
+     * All versions of a note, newest first, without their content.
+     */
+    @Transactional(readOnly = true)
+    public List<NoteRevisionResponse> getRevisions(Long applicationId, Long noteId, String email) {
+        Note note = findOwnedNote(applicationId, noteId, email);
+        List<NoteRevisionResponse> revisions = new ArrayList<>();
+        revisions.add(mapToRevisionResponse(note.getRevision(), note.getUpdatedAt()));
+        noteHistory.summaries(noteId).forEach(summary ->
+                revisions.add(mapToRevisionResponse(summary.getRevision(), summary.getCreatedAt())));
+        return revisions;
+    }
+
+    @Transactional(readOnly = true)
+    public NoteRevisionResponse getRevision(Long applicationId, Long noteId, int revision, String email) {
+        NoteHistory.Version version = noteHistory.reconstruct(findOwnedNote(applicationId, noteId, email), revision);
+        NoteRevisionResponse response = mapToRevisionResponse(version.revision(), version.createdAt());
+        response.setContent(version.content());
+        return response;
     }
 
     @Transactional
     public NoteResponse createNote(Long applicationId, NoteRequest request, String email) {
-        Application application = findApplicationByIdAndEmail(applicationId, email);
+        verifyApplicationOwnership(applicationId, email);
         Note note = new Note();
-        note.setApplication(application);
-        note.setContent(request.getContent());
-        return mapToResponse(noteRepository.save(note));
+        note.setApplication(applicationRepository.getReferenceById(applicationId));
+        NoteContentCodec.StoredContent stored = contentCodec.encode(request.getContent());
+        note.setContent(stored.content());
+        note.setContentCompressed(stored.compressed());
+        note = noteRepository.save(note);
+        changeLog.noteChanged(email, applicationId, note.getId());
+        publishChange(applicationId, email);
+        return mapToResponse(note);
     }
 
     @Transactional
     public NoteResponse updateNote(Long applicationId, Long noteId, NoteRequest request, String email) {
-        verifyApplicationOwnership(applicationId, email);
-        Note note = findNoteByIdAndEmail(noteId, email);
-        note.setContent(request.getContent());
-        return mapToResponse(noteRepository.save(note));
+        NoteContentCodec.StoredContent stored = contentCodec.encode(request.getContent());
+        NoteUpdateRow note = noteRepository.updateOwnedNote(noteId, applicationId, email,
+                        stored.content(), stored.compressed(), LocalDateTime.now())
+                .orElseThrow(() -> notFound(applicationId, noteId, email));
+        noteHistory.recordReplaced(noteId, note.getRevision() - 1,
+                NoteContentCodec.decode(note.getPreviousContent(), note.getPreviousCompressed()),
+                request.getContent(), note.getPreviousUpdatedAt());
+        changeLog.noteChanged(email, applicationId, noteId);
+        publishChange(applicationId, email);
+        // The returned row may only hold the stored prefix
+        NoteResponse response = mapToResponse(note);
+        response.setContent(request.getContent());
+        return response;
     }
 
     @Transactional
     public void deleteNote(Long applicationId, Long noteId, String email) {
-        verifyApplicationOwnership(applicationId, email);
-        Note note = findNoteByIdAndEmail(noteId, email);
-        noteRepository.delete(note);
+        if (noteRepository.deleteOwnedNote(noteId, applicationId, email) == 0) {
+            throw notFound(applicationId, noteId, email);
+        }
+        changeLog.noteDeleted(email, applicationId, noteId);
+        publishChange(applicationId, email);
     }
 
     // -- Private helpers -----------------------------------------------
 
+    private Note findOwnedNote(Long applicationId, Long noteId, String email) {
+        return noteRepository.findByIdAndApplicationIdAndApplicationUserEmail(noteId, applicationId, email)
+                .orElseThrow(() -> notFound(applicationId, noteId, email));
+    }
+
     private void verifyApplicationOwnership(Long applicationId, String email) {
-        applicationRepository.findByIdAndUserEmail(applicationId, email)
-                .orElseThrow(() -> new ApplicationNotFoundException(applicationId));
+        if (!applicationRepository.existsByIdAndUserEmail(applicationId, email)) {
+            throw new ApplicationNotFoundException(applicationId);
+        }
     }
 
-    private Application findApplicationByIdAndEmail(Long applicationId, String email) {
-        return applicationRepository.findByIdAndUserEmail(applicationId, email)
-                .orElseThrow(() -> new ApplicationNotFoundException(applicationId));
+    // Reads, updates and deletes locate the note with owner-scoped statements; only when
+    // one of them matched nothing do we look again to tell a foreign application from a missing note.
+    private RuntimeException notFound(Long applicationId, Long noteId, String email) {
+        if (!applicationRepository.existsByIdAndUserEmail(applicationId, email)) {
+            return new ApplicationNotFoundException(applicationId);
+        }
+        return new NoteNotFoundException(noteId);
     }
 
-    private Note findNoteByIdAndEmail(Long noteId, String email) {
-        return noteRepository.findByIdAndApplicationUserEmail(noteId, email)
-                .orElseThrow(() -> new NoteNotFoundException(noteId));
+    private void publishChange(Long applicationId, String email) {
+        eventPublisher.publishEvent(new ApplicationChangedEvent(email, applicationId));
     }
 
-    private NoteResponse mapToResponse(Note note) {
+    static NoteResponse mapToResponse(Note note) {
         NoteResponse response = new NoteResponse();
         response.setId(note.getId());
-        response.setContent(note.getContent());
+        response.setContent(NoteContentCodec.decode(note.getContent(), note.getContentCompressed()));
         response.setCreatedAt(note.getCreatedAt());
         response.setUpdatedAt(note.getUpdatedAt());
         return response;
     }
+
+    private static NoteResponse mapToResponse(NoteRow row) {
+        NoteResponse response = new NoteResponse();
+        response.setId(row.getId());
+        response.setContent(row.getContent());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+        return response;
+    }
+
+    private static NoteResponse mapToPreview(NoteRow row) {
+        NoteResponse response = mapToResponse(row);
+        String content = row.getContent();
+        // Postgres counts characters as code points, so cut on the same boundary.
+        boolean truncated = content.codePointCount(0, content.length()) > NOTE_PREVIEW_LENGTH;
+        if (truncated) {
+            response.setContent(content.substring(0, content.offsetByCodePoints(0, NOTE_PREVIEW_LENGTH)));
+        }
+        response.setTruncated(truncated);
+        return response;
+    }
+
+    private static Map<String, Object> mapToPreview(FieldSelection<NoteField> selection, Tuple row) {
+        Map<String, Object> json = selection.toJson(row);
+        if (selection.isRequested(NoteField.CONTENT)) {
+            String content = (String) json.get(NoteField.CONTENT.jsonName());
+            boolean truncated = content.codePointCount(0, content.length()) > NOTE_PREVIEW_LENGTH;
+            if (truncated) {
+                json.put(NoteField.CONTENT.jsonName(), content.substring(0, content.offsetByCodePoints(0, NOTE_PREVIEW_LENGTH)));
+            }
+            json.put("truncated", truncated);
+        }
+        return json;
+    }
+
+    private static NoteRevisionResponse mapToRevisionResponse(int revision, LocalDateTime createdAt) {
+        NoteRevisionResponse response = new NoteRevisionResponse();
+        response.setRevision(revision);
+        response.setCreatedAt(createdAt);
+        return response;
+    }
 }
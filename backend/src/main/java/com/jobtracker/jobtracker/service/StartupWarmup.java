@@ -0,0 +1,229 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.model.WorkMode;
+import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the request hot paths before the instance reports ready, so the first
+ * real requests do not pay for a cold JIT, an empty connection pool, Hibernate
+ * and Jackson initialising lazily, the first BCrypt check or the first JWT key.
+ *
+ * Application runners finish before Spring Boot marks the readiness state
+ * ACCEPTING_TRAFFIC. Everything runs against synthetic data: an in-memory list of
+ * applications and read-only queries for an owner that cannot exist, so nothing
+ * is written. The warm-up opens every pool connection, checks one password,
+ * then repeats rounds of token, mapping, JSON and query work until
+ * {@code warmup.rounds} are done or {@code warmup.budget} is spent. It never
+ * fails startup: a warm-up that errors or runs out of time only costs speed.
+ */
+@Component
+@ConditionalOnProperty(name = "warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class StartupWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmup.class);
+
+    // .invalid is reserved (RFC 2606), so no registered user can own this address
+    static final String EMAIL = "warmup@jobtracker.invalid";
+    private static final int APPLICATIONS = 50;
+    private static final String PASSWORD = "warm-up-password";
+
+    private final JwtService jwtService;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final ApplicationRepository applicationRepository;
+    private final NoteRepository noteRepository;
+    private final ObjectMapper objectMapper;
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int poolSize;
+    private final int rounds;
+    private final Duration budget;
+    private final List<Application> applications;
+    private final byte[] requestJson;
+
+    // Written by the warm-up thread, read by run() and the gauges
+    private volatile int connections;
+    private volatile int completedRounds;
+    private volatile long firstRoundNanos;
+    private volatile long lastRoundNanos;
+    private volatile boolean stopped;
+
+    public StartupWarmup(JwtService jwtService, PasswordEncoder passwordEncoder, UserRepository userRepository,
+                         ApplicationRepository applicationRepository, NoteRepository noteRepository,
+                         ObjectMapper objectMapper, DataSource dataSource, MeterRegistry meterRegistry,
+                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                         @Value("${warmup.rounds:500}") int rounds,
+                         @Value("${warmup.budget:10s}") Duration budget) {
+        this.jwtService = jwtService;
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.applicationRepository = applicationRepository;
+        this.noteRepository = noteRepository;
+        this.objectMapper = objectMapper;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.poolSize = poolSize;
+        this.rounds = rounds;
+        this.budget = budget;
+        this.applications = IntStream.range(0, APPLICATIONS).mapToObj(StartupWarmup::application).toList();
+        this.requestJson = objectMapper.writeValueAsBytes(request());
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        long start = System.nanoTime();
+        Thread worker = Thread.ofPlatform().name("startup-warmup").daemon().start(this::warmUp);
+        worker.join(budget);
+        stopped = true;
+        String outcome = worker.isAlive() ? "budget_exceeded" : completedRounds < rounds ? "failed" : "completed";
+        long elapsed = System.nanoTime() - start;
+
+        Timer.builder("startup.warmup")
+                .description("Time spent warming up before accepting traffic")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        Counter.builder("startup.warmup.rounds")
+                .description("Warm-up rounds completed")
+                .register(meterRegistry)
+                .increment(completedRounds);
+        Gauge.builder("startup.warmup.connections", this, warmup -> warmup.connections)
+                .description("Pool connections opened by the warm-up")
+                .register(meterRegistry);
+        TimeGauge.builder("startup.warmup.round", this, TimeUnit.NANOSECONDS, warmup -> warmup.firstRoundNanos)
+                .description("Duration of the first and the last warm-up round; their ratio is the warm-up's effect")
+                .tag("round", "first")
+                .register(meterRegistry);
+        TimeGauge.builder("startup.warmup.round", this, TimeUnit.NANOSECONDS, warmup -> warmup.lastRoundNanos)
+                .description("Duration of the first and the last warm-up round; their ratio is the warm-up's effect")
+                .tag("round", "last")
+                .register(meterRegistry);
+
+        log.info("Warm-up {} in {} ms: {}/{} connections, {}/{} rounds, first round {} us, last round {} us",
+                outcome, TimeUnit.NANOSECONDS.toMillis(elapsed), connections, poolSize, completedRounds, rounds,
+                TimeUnit.NANOSECONDS.toMicros(firstRoundNanos), TimeUnit.NANOSECONDS.toMicros(lastRoundNanos));
+    }
+
+    private void warmUp() {
+        try {
+            connections = fillPool();
+            passwordEncoder.matches(PASSWORD, passwordEncoder.encode(PASSWORD));
+            while (completedRounds < rounds && !stopped) {
+                long start = System.nanoTime();
+                round();
+                lastRoundNanos = System.nanoTime() - start;
+                if (completedRounds == 0) {
+                    firstRoundNanos = lastRoundNanos;
+                }
+                completedRounds++;
+            }
+        } catch (RuntimeException | SQLException ex) {
+            log.warn("Warm-up stopped early; the first requests will be slower", ex);
+        }
+    }
+
+    // -- Steps ---------------------------------------------------------
+
+    /**
+     * Holds the pool's connections all at once, so the pool has to open every
+     * one of them now instead of on the first concurrent requests.
+     */
+    private int fillPool() throws SQLException {
+        List<Connection> opened = new ArrayList<>(poolSize);
+        try {
+            while (opened.size() < poolSize && !stopped) {
+                opened.add(dataSource.getConnection());
+            }
+            return opened.size();
+        } finally {
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+    }
+
+    private void round() {
+        String token = jwtService.generateToken(EMAIL);
+        jwtService.isTokenValid(token, EMAIL);
+
+        objectMapper.readValue(requestJson, ApplicationRequest.class);
+        List<ApplicationResponse> responses = applications.stream()
+                .map(ApplicationService::mapToResponse)
+                .toList();
+        objectMapper.writeValueAsBytes(responses);
+
+        userRepository.findByEmail(EMAIL);
+        applicationRepository.findByUserEmail(EMAIL);
+        applicationRepository.findByIdAndUserEmail(0L, EMAIL);
+        applicationRepository.findWithNoteSummaryByUserEmail(EMAIL, ApplicationService.NOTE_PREVIEW_LENGTH);
+        noteRepository.findPreviewsByApplicationId(0L, NoteService.NOTE_PREVIEW_LENGTH + 1, Limit.of(1));
+    }
+
+    // -- Synthetic data ------------------------------------------------
+
+    private static Application application(int index) {
+        User user = new User();
+        user.setId(0L);
+        user.setEmail(EMAIL);
+
+        Application application = new Application();
+        application.setId((long) -index - 1);
+        application.setUser(user);
+        application.setCompanyName("Company " + index);
+        application.setPositionTitle("Software Engineer");
+        application.setLocation("Tallinn, Estonia");
+        application.setWorkMode(WorkMode.values()[index % WorkMode.values().length]);
+        application.setApplicationSource("LinkedIn");
+        application.setJobPostingUrl("https://jobs.example.com/" + index);
+        application.setSalaryMin(4_000);
+        application.setSalaryMax(6_000);
+        application.setStatus(ApplicationStatus.values()[index % ApplicationStatus.values().length]);
+        application.setApplicationDate(LocalDate.now().minusDays(index));
+        application.setNextStepDate(LocalDate.now().plusDays(index));
+        application.setCreatedAt(LocalDateTime.now().minusDays(index));
+        application.setUpdatedAt(LocalDateTime.now());
+        return application;
+    }
+
+    private static ApplicationRequest request() {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCompanyName("Company");
+        request.setPositionTitle("Software Engineer");
+        request.setWorkMode(WorkMode.REMOTE);
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setApplicationDate(LocalDate.now());
+        return request;
+    }
+}
@@ -0,0 +1,146 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.dto.NoteResponse;
+import com.jobtracker.jobtracker.dto.SyncResponse;
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.model.SyncChange;
+import com.jobtracker.jobtracker.model.SyncEntityType;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.SyncChangeRepository;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the change feed recorded by {@link ChangeLog}. A client without a
+ * cursor gets a full snapshot; afterwards it sends the cursor back and only
+ * receives what changed since, read with a range scan over the user's feed.
+ */
+@Service
+public class SyncService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final SyncChangeRepository syncChangeRepository;
+    private final UserRepository userRepository;
+    private final ApplicationRepository applicationRepository;
+    private final NoteRepository noteRepository;
+
+    public SyncService(SyncChangeRepository syncChangeRepository, UserRepository userRepository,
+                       ApplicationRepository applicationRepository, NoteRepository noteRepository) {
+        this.syncChangeRepository = syncChangeRepository;
+        this.userRepository = userRepository;
+        this.applicationRepository = applicationRepository;
+        this.noteRepository = noteRepository;
+    }
+
+    // -- Public API ----------------------------------------------------
+
+    // Repeatable read keeps the cursor and the rows from the same snapshot.
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SyncResponse getChanges(Long since, int limit, String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new IllegalStateException("Authenticated user not found: " + email));
+        long lastSequence = syncChangeRepository.findLastSequence(user.getId()).orElse(0L);
+
+        // A cursor ahead of the feed comes from a different database; start over.
+        if (since == null || since <= 0 || since > lastSequence) {
+            return snapshot(email, lastSequence);
+        }
+
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        List<SyncChange> changes = syncChangeRepository.findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(
+                user.getId(), since, Limit.of(pageSize + 1));
+        boolean hasMore = changes.size() > pageSize;
+        List<SyncChange> page = hasMore ? changes.subList(0, pageSize) : changes;
+
+        SyncResponse response = delta(page);
+        response.setCursor(hasMore ? page.get(page.size() - 1).getSequence() : lastSequence);
+        response.setHasMore(hasMore);
+        return response;
+    }
+
+    // -- Private helpers -----------------------------------------------
+
+    private SyncResponse snapshot(String email, long lastSequence) {
+        SyncResponse response = new SyncResponse();
+        response.setCursor(lastSequence);
+        response.setFull(true);
+        response.setApplications(applicationRepository.findByUserEmail(email).stream()
+                .map(ApplicationService::mapToResponse)
+                .toList());
+        response.setNotes(noteRepository.findByApplicationUserEmail(email).stream()
+                .map(SyncService::mapToSyncNote)
+                .toList());
+        response.setDeletedApplicationIds(List.of());
+        response.setDeletedNoteIds(List.of());
+        return response;
+    }
+
+    private SyncResponse delta(List<SyncChange> changes) {
+        List<Long> applicationIds = new ArrayList<>();
+        List<Long> noteIds = new ArrayList<>();
+        List<Long> deletedApplicationIds = new ArrayList<>();
+        List<Long> deletedNoteIds = new ArrayList<>();
+        for (SyncChange change : changes) {
+            boolean application = change.getEntityType() == SyncEntityType.APPLICATION;
+            if (change.isDeleted()) {
+                (application ? deletedApplicationIds : deletedNoteIds).add(change.getEntityId());
+            } else {
+                (application ? applicationIds : noteIds).add(change.getEntityId());
+            }
+        }
+
+        Map<Long, Application> applications = byId(applicationRepository.findAllById(applicationIds), Application::getId);
+        Map<Long, Note> notes = byId(noteRepository.findAllById(noteIds), Note::getId);
+
+        // An entity changed and then removed by a cascade has no row left; report it as deleted.
+        List<ApplicationResponse> changedApplications = new ArrayList<>();
+        for (Long id : applicationIds) {
+            Application found = applications.get(id);
+            if (found == null) {
+                deletedApplicationIds.add(id);
+            } else {
+                changedApplications.add(ApplicationService.mapToResponse(found));
+            }
+        }
+        List<NoteResponse> changedNotes = new ArrayList<>();
+        for (Long id : noteIds) {
+            Note found = notes.get(id);
+            if (found == null) {
+                deletedNoteIds.add(id);
+            } else {
+                changedNotes.add(mapToSyncNote(found));
+            }
+        }
+
+        SyncResponse response = new SyncResponse();
+        response.setApplications(changedApplications);
+        response.setNotes(changedNotes);
+        response.setDeletedApplicationIds(deletedApplicationIds);
+        response.setDeletedNoteIds(deletedNoteIds);
+        return response;
+    }
+
+    private static <T> Map<Long, T> byId(List<T> entities, Function<T, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, Function.identity(), (a, b) -> a, HashMap::new));
+    }
+
+    private static NoteResponse mapToSyncNote(Note note) {
+        NoteResponse response = NoteService.mapToResponse(note);
+        response.setApplicationId(note.getApplication().getId());
+        return response;
+    }
+}
@@ -0,0 +1,42 @@
+-- Schema as spring.jpa.hibernate.ddl-auto=update created it before migrations were introduced, and
+-- nothing newer: databases created that way are baselined at this version
+-- (spring.flyway.baseline-on-migrate) and skip it, so every later change goes in a later migration.
+-- Constraint names are Hibernate's generated ones; later migrations do not depend on them.
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(255) NOT NULL,
+    full_name  VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6),
+    CONSTRAINT uk6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email)
+);
+
+CREATE TABLE applications (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id            BIGINT       NOT NULL,
+    company_name       VARCHAR(255) NOT NULL,
+    position_title     VARCHAR(255) NOT NULL,
+    location           VARCHAR(255),
+    work_mode          VARCHAR(255) CHECK (work_mode IN ('REMOTE', 'HYBRID', 'ONSITE')),
+    application_source VARCHAR(255),
+    job_posting_url    VARCHAR(255),
+    salary_min         INTEGER,
+    salary_max         INTEGER,
+    status             VARCHAR(255) NOT NULL
+        CHECK (status IN ('APPLIED', 'INTERVIEWING', 'OFFER', 'ACCEPTED', 'REJECTED', 'WITHDRAWN')),
+    application_date   DATE         NOT NULL,
+    next_step_date     DATE,
+    created_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6),
+    CONSTRAINT fkfsfqljedcla632u568jl5qf3w FOREIGN KEY (user_id) REFERENCES users
+);
+
+CREATE TABLE notes (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    application_id BIGINT       NOT NULL,
+    content        VARCHAR(255) NOT NULL,
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT fkebeytcxmyl6o6lyif863yujrg FOREIGN KEY (application_id) REFERENCES applications
+);
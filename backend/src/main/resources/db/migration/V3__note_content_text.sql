@@ -0,0 +1,5 @@
+-- notes.content was VARCHAR(255) on databases created by ddl-auto=update, which never changes the type
+-- of an existing column. Note bodies have no length limit, and the stored prefix of a compressed note
+-- alone is longer than 255 characters.
+
+ALTER TABLE notes ALTER COLUMN content TYPE TEXT;
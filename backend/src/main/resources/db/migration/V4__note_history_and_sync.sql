@@ -0,0 +1,37 @@
+-- Objects added with compressed note storage, note revisions and the sync change feed. Databases
+-- baselined at V1 have none of them; IF NOT EXISTS covers those that ran a version which had
+-- ddl-auto=update create them.
+
+ALTER TABLE notes
+    ADD COLUMN IF NOT EXISTS content_compressed BYTEA,
+    ADD COLUMN IF NOT EXISTS revision INTEGER NOT NULL DEFAULT 1;
+
+CREATE TABLE IF NOT EXISTS note_revisions (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    note_id    BIGINT       NOT NULL,
+    revision   INTEGER      NOT NULL,
+    snapshot   BOOLEAN      NOT NULL,
+    data       BYTEA        NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_note_revisions_note_revision UNIQUE (note_id, revision),
+    CONSTRAINT fk_note_revisions_note FOREIGN KEY (note_id) REFERENCES notes ON DELETE CASCADE
+);
+
+CREATE TABLE IF NOT EXISTS sync_changes (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        BIGINT      NOT NULL,
+    entity_type    VARCHAR(20) NOT NULL CHECK (entity_type IN ('APPLICATION', 'NOTE')),
+    entity_id      BIGINT      NOT NULL,
+    application_id BIGINT      NOT NULL,
+    sequence       BIGINT      NOT NULL,
+    deleted        BOOLEAN     NOT NULL,
+    CONSTRAINT uk_sync_changes_entity UNIQUE (user_id, entity_type, entity_id),
+    CONSTRAINT fk_sync_changes_user FOREIGN KEY (user_id) REFERENCES users ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_sync_changes_user_sequence ON sync_changes (user_id, sequence);
+
+CREATE TABLE IF NOT EXISTS sync_sequences (
+    user_id       BIGINT NOT NULL PRIMARY KEY,
+    last_sequence BIGINT NOT NULL
+);
@@ -0,0 +1,170 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import com.jobtracker.jobtracker.service.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares a buffered {@code ?fields=} list with the same list written from a
+ * database cursor ({@code ?stream=true}) for a large account: time to first
+ * byte, total time and the peak heap growth while the response is produced.
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=test-secret-key-that-is-at-least-256-bits-long",
+        "jwt.expiration=3600000",
+        "cache.invalidation.enabled=false"
+})
+@Testcontainers
+class ApplicationStreamingBenchmark {
+
+    private static final int ROWS = 20_000;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+    private static final String EMAIL = "bench@example.com";
+    private static final String FIELDS = "id,companyName,positionTitle,location,status,applicationDate,updatedAt";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private String token;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM applications");
+        jdbcTemplate.update("DELETE FROM users");
+        Long userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, full_name, password, created_at) VALUES (?, 'Bench User', 'x', now())"
+                        + " RETURNING id", Long.class, EMAIL);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO applications (user_id, company_name, position_title, location, status,"
+                        + " application_date, created_at, updated_at) VALUES (?, ?, ?, ?, 'APPLIED', ?, now(), now())",
+                IntStream.range(0, ROWS).mapToObj(i -> new Object[] {
+                        userId, "Company " + i, "Software Engineer " + i, "Tallinn, Estonia",
+                        Date.valueOf(LocalDate.now().minusDays(i % 365))}).toList());
+        token = jwtService.generateToken(EMAIL);
+    }
+
+    @Test
+    void compareBufferedAndStreamedLists() throws Exception {
+        Map<String, Object> buffered = measure("/api/applications?fields=" + FIELDS);
+        Map<String, Object> streamed = measure("/api/applications?stream=true&fields=" + FIELDS);
+
+        new BenchmarkReport("application-streaming")
+                .put("buffered", buffered)
+                .put("streamed", streamed)
+                .write();
+
+        assertThat(streamed.get("bytes")).isEqualTo(buffered.get("bytes"));
+        assertThat((double) streamed.get("ttfbP50Micros")).isLessThan((double) buffered.get("ttfbP50Micros"));
+    }
+
+    // -- Helpers ---------------------------------------------------------
+
+    private Map<String, Object> measure(String path) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            fetch(path, new LatencySamples(1), new LatencySamples(1));
+        }
+        LatencySamples firstByte = new LatencySamples(ITERATIONS);
+        LatencySamples total = new LatencySamples(ITERATIONS);
+        HeapSampler heap = new HeapSampler();
+        long bytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            bytes = fetch(path, firstByte, total);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", ROWS);
+        result.put("bytes", bytes);
+        result.put("peakHeapGrowthBytes", heap.stop());
+        result.put("ttfbP50Micros", firstByte.percentileMicros(50));
+        result.put("ttfbP99Micros", firstByte.percentileMicros(99));
+        result.put("totalP50Micros", total.percentileMicros(50));
+        result.put("totalP99Micros", total.percentileMicros(99));
+        return result;
+    }
+
+    private long fetch(String path, LatencySamples firstByte, LatencySamples total) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        byte[] buffer = new byte[8192];
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        try (InputStream body = response.body()) {
+            long bytes = body.read(buffer);
+            firstByte.record(System.nanoTime() - start);
+            for (int read; (read = body.read(buffer)) != -1; ) {
+                bytes += read;
+            }
+            total.record(System.nanoTime() - start);
+            return bytes;
+        }
+    }
+
+    /**
+     * Polls used heap on a background thread. A rough peak, but enough to tell
+     * a response held in memory from one that is not.
+     */
+    private static final class HeapSampler {
+
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final AtomicLong peak = new AtomicLong();
+        private final long baseline;
+        private final Thread thread;
+        private volatile boolean running = true;
+
+        private HeapSampler() {
+            System.gc();
+            baseline = memory.getHeapMemoryUsage().getUsed();
+            thread = Thread.ofPlatform().daemon().start(() -> {
+                while (running) {
+                    peak.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    Thread.onSpinWait();
+                }
+            });
+        }
+
+        private long stop() throws InterruptedException {
+            running = false;
+            thread.join();
+            return Math.max(0, peak.get() - baseline);
+        }
+    }
+}
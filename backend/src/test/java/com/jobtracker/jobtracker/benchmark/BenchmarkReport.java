@@ -0,0 +1,38 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Collects the results of one benchmark and writes them to
+ * {@code target/benchmarks/<name>.json} so runs can be compared over time.
+ */
+final class BenchmarkReport {
+
+    private static final Path OUTPUT_DIR = Path.of("target", "benchmarks");
+
+    private final String name;
+    private final Map<String, Object> results = new LinkedHashMap<>();
+
+    BenchmarkReport(String name) {
+        this.name = name;
+    }
+
+    BenchmarkReport put(String scenario, Map<String, Object> result) {
+        results.put(scenario, result);
+        return this;
+    }
+
+    void write() throws Exception {
+        Files.createDirectories(OUTPUT_DIR);
+        Path file = OUTPUT_DIR.resolve(name + ".json");
+        JsonMapper mapper = JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build();
+        mapper.writeValue(file.toFile(), Map.of("benchmark", name, "results", results));
+        System.out.println(name + " -> " + file.toAbsolutePath());
+        results.forEach((scenario, result) -> System.out.println("  " + scenario + ": " + result));
+    }
+}
@@ -0,0 +1,63 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Fixed-size recorder of operation latencies in nanoseconds.
+ */
+final class LatencySamples {
+
+    private final long[] samples;
+    private int count;
+
+    LatencySamples(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    void record(long nanos) {
+        samples[count++] = nanos;
+    }
+
+    <T> T time(Supplier<T> operation) {
+        long start = System.nanoTime();
+        T result = operation.get();
+        record(System.nanoTime() - start);
+        return result;
+    }
+
+    void time(Runnable operation) {
+        long start = System.nanoTime();
+        operation.run();
+        record(System.nanoTime() - start);
+    }
+
+    double meanMicros() {
+        return Arrays.stream(samples, 0, count).average().orElse(0) / 1_000.0;
+    }
+
+    double percentileMicros(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, index)] / 1_000.0;
+    }
+
+    Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("samples", count);
+        summary.put("meanMicros", round(meanMicros()));
+        summary.put("p50Micros", round(percentileMicros(50)));
+        summary.put("p99Micros", round(percentileMicros(99)));
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,329 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.dto.LoginRequest;
+import com.jobtracker.jobtracker.dto.NoteRequest;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.WorkMode;
+import com.jobtracker.jobtracker.service.JwtService;
+import com.jobtracker.jobtracker.sql.SeedDataset;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tools.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Capacity test of the whole service: the real app over HTTP against
+ * Postgres seeded with {@code users × applications × notes} rows, driven by
+ * a mixed workload of logins, list and detail reads, application creates and
+ * note updates at a fixed arrival rate. Reports throughput, p50/p99/p99.9
+ * latency and error rate per endpoint to
+ * {@code target/benchmarks/load-test.json}. Responses other than 2xx and
+ * timeouts count as errors; only a 4xx fails the test. Requests the
+ * concurrency limiter shed (503) are counted separately as well.
+ * <p>
+ * The client is an open model: requests are sent on schedule whether or not
+ * earlier ones have returned, and latency is measured from the scheduled
+ * send time. A server that falls behind therefore shows it in the tail
+ * instead of slowing the client down. The dataset and the request sequence
+ * come from fixed seeds, so runs at the same settings are comparable. Sizes,
+ * rate and duration are system properties, e.g.
+ * {@code mvn test -Pbenchmark -Dtest=MixedWorkloadLoadBenchmark -Dloadtest.rate=500}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=test-secret-key-that-is-at-least-256-bits-long",
+        "jwt.expiration=3600000",
+        "cache.invalidation.enabled=false",
+        "logging.level.access=WARN"
+})
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class MixedWorkloadLoadBenchmark {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 200);
+    private static final int APPLICATIONS_PER_USER = Integer.getInteger("loadtest.applications", 25);
+    private static final int NOTES_PER_APPLICATION = Math.max(1, Integer.getInteger("loadtest.notes", 4));
+    private static final int REQUESTS_PER_SECOND = Integer.getInteger("loadtest.rate", 200);
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10));
+    private static final Duration MEASUREMENT = Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 30));
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final long SEED = 42;
+    private static final String PASSWORD = "password123";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final List<SeededUser> users = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        SeedDataset.seed(jdbcTemplate, USERS, APPLICATIONS_PER_USER, NOTES_PER_APPLICATION,
+                passwordEncoder.encode(PASSWORD));
+        Map<String, SeededUser> byEmail = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                SELECT u.email, a.id, min(n.id)
+                FROM users u JOIN applications a ON a.user_id = u.id JOIN notes n ON n.application_id = a.id
+                GROUP BY u.id, u.email, a.id
+                ORDER BY u.id, a.id""", row -> {
+            SeededUser user = byEmail.computeIfAbsent(row.getString(1),
+                    email -> new SeededUser(email, jwtService.generateToken(email), new ArrayList<>(), new ArrayList<>()));
+            user.applicationIds().add(row.getLong(2));
+            user.noteIds().add(row.getLong(3));
+        });
+        users.addAll(byEmail.values());
+    }
+
+    @AfterAll
+    void closeClient() {
+        client.close();
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        run(WARMUP, new Random(SEED));
+        Map<Endpoint, EndpointStats> stats = run(MEASUREMENT, new Random(SEED + 1));
+
+        Map<String, Object> setup = new LinkedHashMap<>();
+        setup.put("users", USERS);
+        setup.put("applicationsPerUser", APPLICATIONS_PER_USER);
+        setup.put("notesPerApplication", NOTES_PER_APPLICATION);
+        setup.put("targetRequestsPerSecond", REQUESTS_PER_SECOND);
+        setup.put("measurementSeconds", MEASUREMENT.toSeconds());
+        BenchmarkReport report = new BenchmarkReport("load-test").put("setup", setup);
+        stats.forEach((endpoint, endpointStats) -> report.put(endpoint.name, endpointStats.summary(MEASUREMENT)));
+        report.write();
+
+        // Overload shows as 5xx and timeouts, which are results; a 4xx means the workload itself is wrong
+        stats.values().forEach(endpointStats -> assertThat(endpointStats.clientErrors.get()).isZero());
+    }
+
+    // -- Workload --------------------------------------------------------
+
+    private enum Endpoint {
+        LOGIN("POST /api/auth/login", 5),
+        LIST("GET /api/applications", 40),
+        DETAIL("GET /api/applications/{id}", 30),
+        CREATE("POST /api/applications", 10),
+        UPDATE_NOTE("PUT /api/applications/{applicationId}/notes/{noteId}", 15);
+
+        private static final int TOTAL_WEIGHT = 100;
+
+        private final String name;
+        private final int weight;
+
+        Endpoint(String name, int weight) {
+            this.name = name;
+            this.weight = weight;
+        }
+
+        static Endpoint pick(Random random) {
+            int ticket = random.nextInt(TOTAL_WEIGHT);
+            for (Endpoint endpoint : values()) {
+                ticket -= endpoint.weight;
+                if (ticket < 0) {
+                    return endpoint;
+                }
+            }
+            throw new IllegalStateException("Weights do not add up to " + TOTAL_WEIGHT);
+        }
+    }
+
+    private record SeededUser(String email, String token, List<Long> applicationIds, List<Long> noteIds) {
+    }
+
+    /**
+     * Sends {@link #REQUESTS_PER_SECOND} requests a second for the duration,
+     * each on its own virtual thread, and waits for the last to return.
+     */
+    private Map<Endpoint, EndpointStats> run(Duration duration, Random random) {
+        long interval = 1_000_000_000L / REQUESTS_PER_SECOND;
+        long count = duration.toNanos() / interval;
+        Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats((int) count));
+        }
+        long start = System.nanoTime();
+        try (ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < count; i++) {
+                Endpoint endpoint = Endpoint.pick(random);
+                HttpRequest request = request(endpoint, users.get(random.nextInt(users.size())), random);
+                long scheduled = start + i * interval;
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                senders.execute(() -> send(request, scheduled, stats.get(endpoint)));
+            }
+        }
+        return stats;
+    }
+
+    private HttpRequest request(Endpoint endpoint, SeededUser user, Random random) {
+        int index = random.nextInt(user.applicationIds().size());
+        return switch (endpoint) {
+            case LOGIN -> post("/api/auth/login", null, login(user));
+            case LIST -> get("/api/applications", user);
+            case DETAIL -> get("/api/applications/" + user.applicationIds().get(index), user);
+            case CREATE -> post("/api/applications", user, application(random));
+            case UPDATE_NOTE -> put("/api/applications/" + user.applicationIds().get(index)
+                    + "/notes/" + user.noteIds().get(index), user, note(random));
+        };
+    }
+
+    private void send(HttpRequest request, long scheduled, EndpointStats stats) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long elapsed = System.nanoTime() - scheduled;
+            if (response.statusCode() / 100 == 2) {
+                stats.record(elapsed);
+            } else {
+                stats.errors.incrementAndGet();
+                if (response.statusCode() / 100 == 4) {
+                    stats.clientErrors.incrementAndGet();
+                } else if (response.statusCode() == 503) {
+                    stats.shed.incrementAndGet();
+                }
+            }
+        } catch (IOException ex) {
+            stats.errors.incrementAndGet();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -- Requests --------------------------------------------------------
+
+    private HttpRequest get(String path, SeededUser user) {
+        return builder(path, user).GET().build();
+    }
+
+    private HttpRequest post(String path, SeededUser user, Object body) {
+        return builder(path, user).POST(json(body)).build();
+    }
+
+    private HttpRequest put(String path, SeededUser user, Object body) {
+        return builder(path, user).PUT(json(body)).build();
+    }
+
+    private HttpRequest.Builder builder(String path, SeededUser user) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json");
+        return user == null ? builder : builder.header("Authorization", "Bearer " + user.token());
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private static LoginRequest login(SeededUser user) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(user.email());
+        request.setPassword(PASSWORD);
+        return request;
+    }
+
+    private static ApplicationRequest application(Random random) {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCompanyName("Company " + random.nextInt(10_000));
+        request.setPositionTitle("Software Engineer");
+        request.setLocation("Tallinn, Estonia");
+        request.setWorkMode(WorkMode.values()[random.nextInt(WorkMode.values().length)]);
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setApplicationDate(LocalDate.now());
+        return request;
+    }
+
+    private static NoteRequest note(Random random) {
+        NoteRequest request = new NoteRequest();
+        request.setContent("Followed up with the recruiter, reference " + random.nextInt(1_000_000) + ".");
+        return request;
+    }
+
+    // -- Results ---------------------------------------------------------
+
+    private static final class EndpointStats {
+
+        private final LatencySamples samples;
+        private final ReentrantLock samplesLock = new ReentrantLock();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong clientErrors = new AtomicLong();
+        private final AtomicLong shed = new AtomicLong();
+
+        EndpointStats(int capacity) {
+            this.samples = new LatencySamples(capacity);
+        }
+
+        void record(long nanos) {
+            samplesLock.lock();
+            try {
+                samples.record(nanos);
+            } finally {
+                samplesLock.unlock();
+            }
+        }
+
+        Map<String, Object> summary(Duration duration) {
+            Map<String, Object> latencies = samples.summary();
+            long succeeded = ((Number) latencies.get("samples")).longValue();
+            long total = succeeded + errors.get();
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", total);
+            summary.put("throughputPerSecond", (double) succeeded / duration.toSeconds());
+            summary.put("errorRate", total == 0 ? 0.0 : (double) errors.get() / total);
+            summary.put("shed", shed.get());
+            summary.put("p50Micros", latencies.get("p50Micros"));
+            summary.put("p99Micros", latencies.get("p99Micros"));
+            summary.put("p999Micros", Math.round(samples.percentileMicros(99.9) * 10) / 10.0);
+            return summary;
+        }
+    }
+}
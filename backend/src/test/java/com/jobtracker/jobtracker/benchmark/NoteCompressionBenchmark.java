@@ -0,0 +1,86 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import com.jobtracker.jobtracker.service.NoteContentCodec;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compression ratio and encode/decode latency of note bodies per size and
+ * Deflate level, on generated interview-log style text. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class NoteCompressionBenchmark {
+
+    private static final int[] SIZES = {1_024, 4_096, 16_384, 65_536};
+    private static final int[] LEVELS = {1, 6, 9};
+    private static final int WARMUP = 500;
+    private static final int ITERATIONS = 2_000;
+
+    private static final String[] WORDS = {
+            "interview", "recruiter", "salary", "offer", "team", "manager", "system", "design", "question",
+            "follow", "up", "next", "round", "onsite", "remote", "benefits", "stack", "java", "spring",
+            "postgres", "culture", "deadline", "feedback", "technical", "behavioral", "asked", "about",
+            "the", "a", "and", "to", "of", "we", "they", "discussed", "mentioned", "expect", "week",
+            "call", "email", "scheduled", "went", "well", "tricky", "whiteboard", "latency", "cache"
+    };
+
+    @Test
+    void measureCompression() throws Exception {
+        BenchmarkReport report = new BenchmarkReport("note-compression");
+        for (int size : SIZES) {
+            String content = generate(size, new Random(size));
+            int rawBytes = content.getBytes(StandardCharsets.UTF_8).length;
+            for (int level : LEVELS) {
+                NoteContentCodec codec = new NoteContentCodec(true, DataSize.ofBytes(0), level);
+                NoteContentCodec.StoredContent stored = codec.encode(content);
+                assertThat(NoteContentCodec.decode(stored.content(), stored.compressed())).isEqualTo(content);
+
+                for (int i = 0; i < WARMUP; i++) {
+                    codec.encode(content);
+                    NoteContentCodec.decode(stored.content(), stored.compressed());
+                }
+                LatencySamples encode = new LatencySamples(ITERATIONS);
+                LatencySamples decode = new LatencySamples(ITERATIONS);
+                for (int i = 0; i < ITERATIONS; i++) {
+                    encode.time(() -> codec.encode(content));
+                    decode.time(() -> NoteContentCodec.decode(stored.content(), stored.compressed()));
+                }
+
+                int storedBytes = stored.compressed().length
+                        + stored.content().getBytes(StandardCharsets.UTF_8).length;
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("rawBytes", rawBytes);
+                result.put("storedBytes", storedBytes);
+                result.put("ratio", Math.round(100.0 * rawBytes / storedBytes) / 100.0);
+                result.put("encode", encode.summary());
+                result.put("decode", decode.summary());
+                report.put(size + "B.level" + level, result);
+            }
+        }
+        report.write();
+    }
+
+    private static String generate(int targetBytes, Random random) {
+        StringBuilder text = new StringBuilder(targetBytes + 64);
+        while (text.length() < targetBytes) {
+            int sentenceLength = 6 + random.nextInt(12);
+            for (int i = 0; i < sentenceLength; i++) {
+                String word = WORDS[random.nextInt(WORDS.length)];
+                text.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+                text.append(i == sentenceLength - 1 ? ". " : " ");
+            }
+            if (random.nextInt(5) == 0) {
+                text.append(random.nextInt(100)).append("k, ").append(1 + random.nextInt(28)).append(".\n");
+            }
+        }
+        return text.substring(0, targetBytes);
+    }
+}
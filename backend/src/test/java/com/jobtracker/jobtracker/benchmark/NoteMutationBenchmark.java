@@ -0,0 +1,181 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import com.jobtracker.jobtracker.dto.NoteRequest;
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import com.jobtracker.jobtracker.service.NoteService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the previous read-then-write note mutations (ownership lookup, note
+ * lookup, then the write) with the owner-scoped statements in
+ * {@link NoteService}. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "jwt.secret=test-secret-key-that-is-at-least-256-bits-long",
+        "jwt.expiration=3600000",
+        "cache.invalidation.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Testcontainers
+class NoteMutationBenchmark {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final String EMAIL = "bench@example.com";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long applicationId;
+
+    @BeforeEach
+    void seed() {
+        noteRepository.deleteAll();
+        applicationRepository.deleteAll();
+        userRepository.deleteAll();
+
+        User user = new User();
+        user.setEmail(EMAIL);
+        user.setFullName("Bench User");
+        user.setPassword("hashedPassword123");
+        user = userRepository.save(user);
+
+        Application app = new Application();
+        app.setUser(user);
+        app.setCompanyName("Google");
+        app.setPositionTitle("Software Engineer");
+        app.setApplicationDate(LocalDate.now());
+        app.setStatus(ApplicationStatus.APPLIED);
+        applicationId = applicationRepository.save(app).getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void compareNoteMutations() throws Exception {
+        Long updateTarget = seedNotes(1).get(0);
+        List<Long> legacyDeletes = seedNotes(WARMUP + ITERATIONS);
+        List<Long> singleStatementDeletes = seedNotes(WARMUP + ITERATIONS);
+
+        Map<String, Object> legacyUpdate = measure(i -> legacyUpdate(updateTarget, "legacy " + i));
+        Map<String, Object> singleUpdate = measure(i ->
+                noteService.updateNote(applicationId, updateTarget, request("single " + i), EMAIL));
+        Map<String, Object> legacyDelete = measure(i -> legacyDelete(legacyDeletes.get(i)));
+        Map<String, Object> singleDelete = measure(i ->
+                noteService.deleteNote(applicationId, singleStatementDeletes.get(i), EMAIL));
+
+        new BenchmarkReport("note-mutations")
+                .put("update.readThenWrite", legacyUpdate)
+                .put("update.singleStatement", singleUpdate)
+                .put("delete.readThenWrite", legacyDelete)
+                .put("delete.singleStatement", singleDelete)
+                .write();
+
+        // The owner-scoped write, the sync feed upsert and, for updates, the replaced revision
+        assertThat((double) singleUpdate.get("statementsPerOp")).isEqualTo(3.0);
+        assertThat((double) singleDelete.get("statementsPerOp")).isEqualTo(2.0);
+    }
+
+    // -- Previous implementation -----------------------------------------
+
+    private void legacyUpdate(Long noteId, String content) {
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationRepository.findByIdAndUserEmail(applicationId, EMAIL).orElseThrow();
+            Note note = noteRepository.findByIdAndApplicationUserEmail(noteId, EMAIL).orElseThrow();
+            note.setContent(content);
+            noteRepository.save(note);
+        });
+    }
+
+    private void legacyDelete(Long noteId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            applicationRepository.findByIdAndUserEmail(applicationId, EMAIL).orElseThrow();
+            Note note = noteRepository.findByIdAndApplicationUserEmail(noteId, EMAIL).orElseThrow();
+            noteRepository.delete(note);
+        });
+    }
+
+    // -- Helpers ---------------------------------------------------------
+
+    private Map<String, Object> measure(IntConsumer operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.accept(i);
+        }
+        LatencySamples samples = new LatencySamples(ITERATIONS);
+        statistics.clear();
+        for (int i = WARMUP; i < WARMUP + ITERATIONS; i++) {
+            int index = i;
+            samples.time(() -> operation.accept(index));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("statementsPerOp", (double) statistics.getPrepareStatementCount() / ITERATIONS);
+        result.putAll(samples.summary());
+        return result;
+    }
+
+    private List<Long> seedNotes(int count) {
+        Application application = applicationRepository.getReferenceById(applicationId);
+        List<Note> notes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Note note = new Note();
+            note.setApplication(application);
+            note.setContent("Seed note " + i);
+            notes.add(note);
+        }
+        return noteRepository.saveAll(notes).stream().map(Note::getId).toList();
+    }
+
+    private static NoteRequest request(String content) {
+        NoteRequest request = new NoteRequest();
+        request.setContent(content);
+        return request;
+    }
+}
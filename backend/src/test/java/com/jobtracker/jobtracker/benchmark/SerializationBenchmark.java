@@ -0,0 +1,114 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.WorkMode;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Payload size and encode/decode latency of application lists as JSON, CBOR
+ * and Smile, the formats the API negotiates. Gzipped sizes are included
+ * because JSON responses usually travel compressed. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class SerializationBenchmark {
+
+    private static final int[] ROWS = {1_000, 10_000};
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+    private static final TypeReference<List<ApplicationResponse>> LIST_TYPE = new TypeReference<>() {};
+
+    private static final String[] COMPANIES = {"Google", "Spotify", "Wise", "Bolt", "Pipedrive", "Veriff", "Monzo"};
+    private static final String[] TITLES = {"Software Engineer", "Backend Developer", "Platform Engineer", "SRE"};
+    private static final String[] CITIES = {"Tallinn", "Tartu", "Berlin", "London", "Stockholm"};
+
+    @Test
+    void compareFormats() throws Exception {
+        Map<String, ObjectMapper> formats = new LinkedHashMap<>();
+        formats.put("json", JsonMapper.builder().build());
+        formats.put("cbor", CBORMapper.builder().build());
+        formats.put("smile", SmileMapper.builder().build());
+
+        BenchmarkReport report = new BenchmarkReport("serialization");
+        for (int rows : ROWS) {
+            List<ApplicationResponse> applications = generate(rows, new Random(rows));
+            for (Map.Entry<String, ObjectMapper> format : formats.entrySet()) {
+                ObjectMapper mapper = format.getValue();
+                byte[] encoded = mapper.writeValueAsBytes(applications);
+                List<ApplicationResponse> decoded = mapper.readValue(encoded, LIST_TYPE);
+                assertThat(decoded).hasSize(rows);
+                assertThat(decoded.get(rows - 1).getCompanyName()).isEqualTo(applications.get(rows - 1).getCompanyName());
+
+                for (int i = 0; i < WARMUP; i++) {
+                    mapper.writeValueAsBytes(applications);
+                    mapper.readValue(encoded, LIST_TYPE);
+                }
+                LatencySamples encode = new LatencySamples(ITERATIONS);
+                LatencySamples decode = new LatencySamples(ITERATIONS);
+                for (int i = 0; i < ITERATIONS; i++) {
+                    encode.time(() -> mapper.writeValueAsBytes(applications));
+                    decode.time(() -> mapper.readValue(encoded, LIST_TYPE));
+                }
+
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("bytes", encoded.length);
+                result.put("gzipBytes", gzipSize(encoded));
+                result.put("encode", encode.summary());
+                result.put("decode", decode.summary());
+                report.put(rows + "rows." + format.getKey(), result);
+            }
+        }
+        report.write();
+    }
+
+    private static List<ApplicationResponse> generate(int rows, Random random) {
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+        List<ApplicationResponse> applications = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ApplicationResponse application = new ApplicationResponse();
+            application.setId((long) i + 1);
+            application.setCompanyName(COMPANIES[random.nextInt(COMPANIES.length)]);
+            application.setPositionTitle(TITLES[random.nextInt(TITLES.length)]);
+            application.setLocation(CITIES[random.nextInt(CITIES.length)]);
+            application.setWorkMode(WorkMode.values()[random.nextInt(WorkMode.values().length)]);
+            application.setApplicationSource(random.nextBoolean() ? "LinkedIn" : null);
+            application.setJobPostingUrl("https://jobs.example.com/postings/" + (100_000 + random.nextInt(900_000)));
+            application.setSalaryMin(3_000 + random.nextInt(20) * 100);
+            application.setSalaryMax(5_000 + random.nextInt(30) * 100);
+            application.setStatus(ApplicationStatus.values()[random.nextInt(ApplicationStatus.values().length)]);
+            application.setApplicationDate(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(200)));
+            application.setNextStepDate(random.nextBoolean() ? LocalDate.of(2026, 8, 1).plusDays(random.nextInt(60)) : null);
+            application.setCreatedAt(base.plusMinutes(random.nextInt(300_000)));
+            application.setUpdatedAt(application.getCreatedAt().plusMinutes(random.nextInt(10_000)));
+            applications.add(application);
+        }
+        return applications;
+    }
+
+    private static int gzipSize(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,159 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import com.jobtracker.jobtracker.service.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Cold-start time of each way the backend can be run: from launching the
+ * process to the first {@code 200} from {@code GET /api/applications}, which
+ * includes migrations, the first connection and the first authenticated
+ * request. Modes whose artifacts are missing are skipped. Build them first,
+ * then run the benchmark without cleaning:
+ * <pre>
+ * mvn -Pfast-startup package -DskipTests    # jar with AOT, target/fast-startup/ with the CDS archive
+ * mvn -Pnative native:compile -DskipTests   # optional, GraalVM: target/jobtracker
+ * mvn test -Pbenchmark -Dtest=StartupBenchmark
+ * </pre>
+ */
+@Tag("benchmark")
+@Testcontainers
+class StartupBenchmark {
+
+    private static final int RUNS = 3;
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final String EMAIL = "startup@example.com";
+    private static final String SECRET = "test-secret-key-that-is-at-least-256-bits-long";
+
+    private static final Path TARGET = Path.of("target");
+    private static final Path JAR = TARGET.resolve("jobtracker-0.0.1-SNAPSHOT.jar");
+    private static final Path FAST_STARTUP = TARGET.resolve("fast-startup");
+    private static final Path NATIVE = TARGET.resolve("jobtracker");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Test
+    void timeToFirstResponse() throws Exception {
+        assumeTrue(Files.exists(JAR), "Package the application first: " + JAR + " is missing");
+        String token = seed();
+
+        String java = ProcessHandle.current().info().command().orElse("java");
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("jar", List.of(java, "-jar", JAR.toString()));
+        if (Files.exists(FAST_STARTUP.resolve("application.jsa"))) {
+            modes.put("aot", List.of(java, "-Dspring.aot.enabled=true", "-jar", JAR.toString()));
+            modes.put("cds+aot", List.of(java, "-XX:SharedArchiveFile=" + FAST_STARTUP.resolve("application.jsa"),
+                    "-Xlog:cds=error", "-Dspring.aot.enabled=true",
+                    "-jar", FAST_STARTUP.resolve(JAR.getFileName()).toString()));
+        }
+        if (Files.isExecutable(NATIVE)) {
+            modes.put("native", List.of(NATIVE.toString()));
+        }
+
+        BenchmarkReport report = new BenchmarkReport("startup");
+        try (HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+                List<Long> millis = new ArrayList<>();
+                for (int run = 0; run < RUNS; run++) {
+                    millis.add(timeToFirstResponse(mode.getKey() + "-" + run, mode.getValue(), client, token));
+                }
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("runs", millis);
+                result.put("minMillis", millis.stream().mapToLong(Long::longValue).min().orElseThrow());
+                result.put("medianMillis", millis.stream().sorted().toList().get(RUNS / 2));
+                report.put(mode.getKey(), result);
+            }
+        }
+        report.write();
+    }
+
+    /**
+     * Migrates the schema and creates the user the probe authenticates as,
+     * so every run starts from the same up-to-date database.
+     */
+    private static String seed() {
+        Flyway.configure()
+                .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+                .load()
+                .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.update("INSERT INTO users (email, full_name, password, created_at)"
+                + " VALUES (?, 'Startup User', 'x', now())", EMAIL);
+
+        JwtService jwtService = new JwtService(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtService, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtService, "expiration", Duration.ofHours(1).toMillis());
+        return jwtService.generateToken(EMAIL);
+    }
+
+    private static long timeToFirstResponse(String name, List<String> command, HttpClient client, String token)
+            throws Exception {
+        int port = freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.addAll(List.of(
+                "--server.port=" + port,
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--jwt.secret=" + SECRET,
+                "--jwt.expiration=3600000"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/applications"))
+                .header("Authorization", "Bearer " + token)
+                .build();
+        Path log = TARGET.resolve("benchmarks").resolve("startup-" + name + ".log");
+        Files.createDirectories(log.getParent());
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(arguments).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("%s exited early, see %s", name, log).isTrue();
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+                    }
+                } catch (IOException ex) {
+                    // Not listening yet
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            throw new AssertionError(name + " did not answer within " + TIMEOUT + ", see " + log);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.jobtracker.jobtracker.benchmark;
+
+import com.jobtracker.jobtracker.JobtrackerApplication;
+import com.jobtracker.jobtracker.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of {@code GET /api/applications} against a slow database, with
+ * request handling on Tomcat's platform worker pool and in the opt-in
+ * {@code virtual} profile, each at a small and a large connection pool.
+ * Every JDBC statement is held for {@link #QUERY_DELAY} on its connection.
+ * The {@code ?fields=} form is used because it bypasses the application
+ * cache, so every request reaches the database. Run with
+ * {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+@Testcontainers
+class VirtualThreadLoadBenchmark {
+
+    private static final int CONCURRENCY = 300;
+    private static final int APPLICATIONS = 50;
+    private static final Duration QUERY_DELAY = Duration.ofMillis(20);
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(10);
+    private static final String EMAIL = "bench@example.com";
+    private static final String PATH = "/api/applications?fields=id,companyName,positionTitle,status";
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        Map<String, Map<String, Object>> results = new LinkedHashMap<>();
+        for (int poolSize : new int[] {10, 80}) {
+            results.put("platform.pool" + poolSize, run(false, poolSize));
+            results.put("virtual.pool" + poolSize, run(true, poolSize));
+        }
+
+        BenchmarkReport report = new BenchmarkReport("virtual-threads");
+        results.forEach(report::put);
+        report.write();
+
+        results.values().forEach(result -> assertThat(result.get("errors")).isEqualTo(0L));
+        for (int poolSize : new int[] {10, 80}) {
+            assertThat((int) results.get("virtual.pool" + poolSize).get("peakPlatformThreads"))
+                    .isLessThan((int) results.get("platform.pool" + poolSize).get("peakPlatformThreads"));
+        }
+    }
+
+    // -- Scenario --------------------------------------------------------
+
+    private Map<String, Object> run(boolean virtual, int poolSize) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                // The virtual profile fails fast after 5s; keep the wait equal so only the threads differ
+                "--spring.datasource.hikari.connection-timeout=30000",
+                "--jwt.secret=test-secret-key-that-is-at-least-256-bits-long",
+                "--jwt.expiration=3600000",
+                "--cache.invalidation.enabled=false",
+                "--logging.level.root=WARN"));
+        if (virtual) {
+            args.add("--spring.profiles.active=virtual");
+        }
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                JobtrackerApplication.class, SlowStatements.class).run(args.toArray(String[]::new))) {
+            String token = seed(context);
+            URI uri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port") + PATH);
+
+            load(uri, token, WARMUP);
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            threads.resetPeakThreadCount();
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("threads", virtual ? "virtual" : "platform");
+            result.put("poolSize", poolSize);
+            result.put("concurrency", CONCURRENCY);
+            result.put("queryDelayMillis", QUERY_DELAY.toMillis());
+            result.putAll(load(uri, token, MEASUREMENT));
+            result.put("peakPlatformThreads", threads.getPeakThreadCount());
+            Timer pinned = context.getBean(MeterRegistry.class).find("jvm.threads.virtual.pinned").timer();
+            result.put("pinnedEvents", pinned == null ? 0 : pinned.count());
+            return result;
+        }
+    }
+
+    private static String seed(ConfigurableApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("DELETE FROM applications");
+        jdbcTemplate.update("DELETE FROM users");
+        Long userId = jdbcTemplate.queryForObject(
+                "INSERT INTO users (email, full_name, password, created_at) VALUES (?, 'Bench User', 'x', now())"
+                        + " RETURNING id", Long.class, EMAIL);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO applications (user_id, company_name, position_title, status, application_date,"
+                        + " created_at, updated_at) VALUES (?, ?, ?, 'APPLIED', ?, now(), now())",
+                IntStream.range(0, APPLICATIONS).mapToObj(i -> new Object[] {
+                        userId, "Company " + i, "Software Engineer", Date.valueOf(LocalDate.now())}).toList());
+        return context.getBean(JwtService.class).generateToken(EMAIL);
+    }
+
+    /**
+     * Closed loop: each client sends its next request as soon as the previous
+     * one returns, so throughput is what the server sustains at this
+     * concurrency.
+     */
+    private static Map<String, Object> load(URI uri, String token, Duration duration) {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).build();
+        LatencySamples samples = new LatencySamples(1_000_000);
+        ReentrantLock samplesLock = new ReentrantLock();
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (HttpClient client = HttpClient.newHttpClient();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENCY; i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                                continue;
+                            }
+                        } catch (IOException ex) {
+                            errors.incrementAndGet();
+                            continue;
+                        } catch (InterruptedException ex) {
+                            return;
+                        }
+                        long elapsed = System.nanoTime() - start;
+                        samplesLock.lock();
+                        try {
+                            samples.record(elapsed);
+                        } finally {
+                            samplesLock.unlock();
+                        }
+                    }
+                });
+            }
+        }
+        Map<String, Object> summary = samples.summary();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("errors", errors.get());
+        result.put("throughputPerSecond", ((Number) summary.get("samples")).doubleValue() / duration.toSeconds());
+        result.put("p50Micros", summary.get("p50Micros"));
+        result.put("p99Micros", summary.get("p99Micros"));
+        return result;
+    }
+
+    // -- Slow database ---------------------------------------------------
+
+    /**
+     * Holds every statement on its connection for {@link #QUERY_DELAY}, the
+     * way a loaded database would. Registered as a source of the benchmark
+     * application only, never picked up by component scanning.
+     */
+    static class SlowStatements implements BeanPostProcessor {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return wrap(Connection.class, super.getConnection());
+                    }
+                };
+            }
+            return bean;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T wrap(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                    (proxy, method, args) -> {
+                        if (type == PreparedStatement.class && method.getName().startsWith("execute")) {
+                            Thread.sleep(QUERY_DELAY);
+                        }
+                        Object result = invoke(target, method, args);
+                        return result instanceof PreparedStatement statement
+                                ? wrap(PreparedStatement.class, statement)
+                                : result;
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+}
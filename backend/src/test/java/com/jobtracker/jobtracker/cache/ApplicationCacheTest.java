@@ -0,0 +1,150 @@
+package com.jobtracker.jobtracker.cache;
+
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.event.ApplicationChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ApplicationCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ApplicationCache applicationCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationCache = new ApplicationCache(100, Duration.ofMinutes(10), meterRegistry);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        applicationCache.getAll("user@example.com", false, () -> load(loads, 1L));
+        List<ApplicationResponse> second = applicationCache.getAll("user@example.com", false, () -> load(loads, 1L));
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(second).extracting(ApplicationResponse::getId).containsExactly(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "applications.list").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotLetCallersChangeCachedResponses() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        applicationCache.getAll("user@example.com", false, () -> load(loads, 1L)).getFirst().setCompanyName("Changed");
+        applicationCache.get(1L, "user@example.com", () -> response(1L)).setCompanyName("Changed");
+
+        // When
+        List<ApplicationResponse> list = applicationCache.getAll("user@example.com", false, () -> load(loads, 1L));
+        ApplicationResponse detail = applicationCache.get(1L, "user@example.com", () -> response(99L));
+
+        // Then
+        assertThat(loads).hasValue(1);
+        assertThat(list).extracting(ApplicationResponse::getCompanyName).containsExactly("Acme");
+        assertThat(detail.getId()).isEqualTo(1L);
+        assertThat(detail.getCompanyName()).isEqualTo("Acme");
+    }
+
+    @Test
+    void shouldEvictOnlyTheChangedOwnersEntries() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        applicationCache.getAll("owner@example.com", false, () -> load(loads, 1L));
+        applicationCache.get(1L, "owner@example.com", () -> response(1L));
+        applicationCache.getAll("other@example.com", false, () -> load(loads, 2L));
+
+        // When
+        applicationCache.onApplicationChanged(new ApplicationChangedEvent("owner@example.com", 1L));
+
+        // Then
+        applicationCache.getAll("owner@example.com", false, () -> load(loads, 1L));
+        applicationCache.getAll("other@example.com", false, () -> load(loads, 2L));
+        assertThat(loads).hasValue(3);
+        assertThat(applicationCache.get(1L, "owner@example.com", () -> response(99L)).getId()).isEqualTo(99L);
+    }
+
+    @Test
+    void shouldKeepDetailsOfOtherApplicationsOnSingleEviction() {
+        // Given
+        applicationCache.get(1L, "owner@example.com", () -> response(1L));
+        applicationCache.get(2L, "owner@example.com", () -> response(2L));
+
+        // When
+        applicationCache.evictApplication("owner@example.com", 1L);
+
+        // Then
+        assertThat(applicationCache.get(2L, "owner@example.com", () -> response(99L)).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldEvictEverythingForOwner() {
+        // Given
+        applicationCache.get(1L, "owner@example.com", () -> response(1L));
+        applicationCache.get(2L, "owner@example.com", () -> response(2L));
+
+        // When
+        applicationCache.evictOwner("owner@example.com");
+
+        // Then
+        assertThat(applicationCache.get(1L, "owner@example.com", () -> response(99L)).getId()).isEqualTo(99L);
+        assertThat(applicationCache.get(2L, "owner@example.com", () -> response(98L)).getId()).isEqualTo(98L);
+    }
+
+    @Test
+    void shouldEvictWithoutWaitingForAnInFlightLoad() throws Exception {
+        // Given: A load that is still waiting for its data, e.g. for a pooled connection
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<ApplicationResponse>> inFlight = CompletableFuture.supplyAsync(
+                () -> applicationCache.getAll("owner@example.com", false, () -> {
+                    loading.countDown();
+                    awaitUninterruptibly(release);
+                    return List.of(response(1L));
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> applicationCache.onApplicationChanged(new ApplicationChangedEvent("owner@example.com", 1L)));
+        release.countDown();
+
+        // Then: The in-flight result is returned to its reader but not kept
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).extracting(ApplicationResponse::getId).containsExactly(1L);
+        assertThat(applicationCache.getAll("owner@example.com", false, () -> List.of(response(2L))))
+                .extracting(ApplicationResponse::getId).containsExactly(2L);
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<ApplicationResponse> load(AtomicInteger loads, Long id) {
+        loads.incrementAndGet();
+        return List.of(response(id));
+    }
+
+    private ApplicationResponse response(Long id) {
+        ApplicationResponse response = new ApplicationResponse();
+        response.setId(id);
+        response.setCompanyName("Acme");
+        return response;
+    }
+}
@@ -0,0 +1,153 @@
+package com.jobtracker.jobtracker.cache;
+
+import com.jobtracker.jobtracker.JobtrackerApplication;
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.dto.RegisterRequest;
+import com.jobtracker.jobtracker.exception.ApplicationNotFoundException;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.service.ApplicationService;
+import com.jobtracker.jobtracker.service.JwtService;
+import com.jobtracker.jobtracker.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Runs two application contexts against one database to check that a write
+ * on one node evicts the other node's cached copy and reaches the change
+ * streams open on the other node.
+ */
+@Testcontainers
+class CacheInvalidationBusTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void stopNodes() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void shouldEvictOtherNodeAfterUpdate() {
+        // Given: node B has cached the user's applications
+        String email = registerUser("update@example.com");
+        ApplicationResponse created = service(nodeA).createApplication(request("Google"), email);
+        assertThat(service(nodeB).getAllApplications(email))
+                .extracting(ApplicationResponse::getCompanyName).containsExactly("Google");
+
+        // When: node A updates the application
+        service(nodeA).updateApplication(created.getId(), request("Alphabet"), email);
+
+        // Then: node B serves the new state long before the cache would expire
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(service(nodeB).getAllApplications(email))
+                        .extracting(ApplicationResponse::getCompanyName).containsExactly("Alphabet"));
+    }
+
+    @Test
+    void shouldEvictOtherNodeAfterDelete() {
+        // Given: node B has cached a single application
+        String email = registerUser("delete@example.com");
+        ApplicationResponse created = service(nodeA).createApplication(request("Amazon"), email);
+        assertThat(service(nodeB).getApplicationById(created.getId(), email).getCompanyName()).isEqualTo("Amazon");
+
+        // When: node A deletes it
+        service(nodeA).deleteApplication(created.getId(), email);
+
+        // Then: node B stops serving it
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThatThrownBy(() -> service(nodeB).getApplicationById(created.getId(), email))
+                        .isInstanceOf(ApplicationNotFoundException.class));
+    }
+
+    @Test
+    void shouldPushChangeToStreamOnOtherNode() {
+        // Given: a client streams changes from node B
+        String email = registerUser("stream@example.com");
+        Queue<String> lines = new ConcurrentLinkedQueue<>();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:"
+                        + nodeB.getEnvironment().getProperty("local.server.port") + "/api/sync/stream"))
+                .header("Authorization", "Bearer " + nodeB.getBean(JwtService.class).generateToken(email))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpClient client = HttpClient.newHttpClient();
+        try {
+            client.sendAsync(request, HttpResponse.BodyHandlers.ofLines())
+                    .thenAccept(response -> response.body().forEach(lines::add));
+            await().atMost(Duration.ofSeconds(5)).until(() -> lines.contains(":connected"));
+
+            // When: node A creates an application
+            ApplicationResponse created = service(nodeA).createApplication(request("Netflix"), email);
+
+            // Then: the stream on node B announces it
+            await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> assertThat(lines)
+                    .contains("event:change")
+                    .anyMatch(line -> line.startsWith("data:") && line.contains("\"id\":" + created.getId())));
+        } finally {
+            client.shutdownNow();
+        }
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(JobtrackerApplication.class)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "server.port=0",
+                        "jwt.secret=test-secret-key-that-is-at-least-256-bits-long",
+                        "jwt.expiration=3600000",
+                        "cache.invalidation.flush-interval=10ms",
+                        "warmup.enabled=false")
+                .run();
+    }
+
+    private String registerUser(String email) {
+        RegisterRequest request = new RegisterRequest();
+        request.setEmail(email);
+        request.setPassword("password123");
+        request.setFullName("Test User");
+        return nodeA.getBean(UserService.class).registerUser(request).getEmail();
+    }
+
+    private static ApplicationService service(ConfigurableApplicationContext node) {
+        return node.getBean(ApplicationService.class);
+    }
+
+    private static ApplicationRequest request(String companyName) {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCompanyName(companyName);
+        request.setPositionTitle("Engineer");
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setApplicationDate(LocalDate.now());
+        return request;
+    }
+}
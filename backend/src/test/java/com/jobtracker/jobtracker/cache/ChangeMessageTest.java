@@ -0,0 +1,48 @@
+package com.jobtracker.jobtracker.cache;
+
+import com.jobtracker.jobtracker.event.EntityChangedEvent;
+import com.jobtracker.jobtracker.model.SyncEntityType;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import java.util.List;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeMessageTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldRoundTripChangesInOrder() {
+        // Given
+        List<EntityChangedEvent> changes = List.of(
+                new EntityChangedEvent("a@example.com", SyncEntityType.APPLICATION, 7L, 7L, false, 41),
+                new EntityChangedEvent("a@example.com", SyncEntityType.NOTE, 12L, 7L, true, 42));
+
+        // When
+        List<String> payloads = ChangeMessage.encode(mapper, "node-1", changes);
+
+        // Then
+        assertThat(payloads).hasSize(1);
+        ChangeMessage message = ChangeMessage.decode(mapper, payloads.get(0));
+        assertThat(message.sender()).isEqualTo("node-1");
+        assertThat(message.events())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(changes);
+    }
+
+    @Test
+    void shouldKeepSeparatorsInsideEmails() {
+        // Given: A quoted local part may hold characters the old framing split on
+        List<EntityChangedEvent> changes = List.of(
+                new EntityChangedEvent("\"a\tb\nc\"@example.com", SyncEntityType.NOTE, 12L, 7L, false, 3),
+                new EntityChangedEvent("b@example.com", SyncEntityType.NOTE, 13L, 8L, false, 9));
+
+        // When
+        List<String> payloads = ChangeMessage.encode(mapper, "node-1", changes);
+
+        // Then
+        assertThat(ChangeMessage.decode(mapper, payloads.get(0)).events())
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(changes);
+    }
+}
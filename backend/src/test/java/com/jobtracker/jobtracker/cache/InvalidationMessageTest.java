@@ -0,0 +1,51 @@
+package com.jobtracker.jobtracker.cache;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidationMessageTest {
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+
+    @Test
+    void shouldRoundTripSenderAndOwners() {
+        // Given: The second email would have split into two owners with line framing
+        List<String> owners = List.of("a@example.com", "\"b\nnode-2\"@example.com");
+
+        // When
+        List<String> payloads = InvalidationMessage.encode(mapper, "node-1", owners);
+
+        // Then
+        assertThat(payloads).hasSize(1);
+        InvalidationMessage message = InvalidationMessage.decode(mapper, payloads.get(0));
+        assertThat(message.sender()).isEqualTo("node-1");
+        assertThat(message.owners()).containsExactlyElementsOf(owners);
+    }
+
+    @Test
+    void shouldSplitLargeBatchesBelowNotifyLimit() {
+        // Given: Some owners take several bytes per character
+        List<String> owners = IntStream.range(0, 2000)
+                .mapToObj(i -> (i % 3 == 0 ? "jürgen" : "user") + i + "@example.com").toList();
+
+        // When
+        List<String> payloads = InvalidationMessage.encode(mapper, "node-1", owners);
+
+        // Then
+        assertThat(payloads).hasSizeGreaterThan(1);
+        assertThat(payloads).allSatisfy(payload ->
+                assertThat(payload.getBytes(StandardCharsets.UTF_8).length)
+                        .isLessThanOrEqualTo(InvalidationMessage.MAX_PAYLOAD_BYTES));
+        assertThat(payloads.stream().flatMap(payload -> InvalidationMessage.decode(mapper, payload).owners().stream()))
+                .containsExactlyElementsOf(owners);
+    }
+
+    @Test
+    void shouldProduceNothingForEmptyBatch() {
+        assertThat(InvalidationMessage.encode(mapper, "node-1", List.of())).isEmpty();
+    }
+}
@@ -0,0 +1,27 @@
+package com.jobtracker.jobtracker.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TimedPasswordEncoder encoder = new TimedPasswordEncoder(new BCryptPasswordEncoder(4), meterRegistry);
+
+    @Test
+    void shouldTimeEachOperationSeparately() {
+        // When
+        String hash = encoder.encode("password123");
+        boolean matches = encoder.matches("password123", hash);
+        boolean mismatches = encoder.matches("wrong", hash);
+
+        // Then
+        assertThat(matches).isTrue();
+        assertThat(mismatches).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2);
+    }
+}
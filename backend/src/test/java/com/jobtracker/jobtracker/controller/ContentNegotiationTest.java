@@ -0,0 +1,171 @@
+package com.jobtracker.jobtracker.controller;
+
+import com.jobtracker.jobtracker.config.SecurityConfig;
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.WorkMode;
+import com.jobtracker.jobtracker.service.ApplicationService;
+import com.jobtracker.jobtracker.service.CustomUserDetailsService;
+import com.jobtracker.jobtracker.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that the existing controllers speak CBOR and Smile as well as JSON,
+ * through the converters Spring registers for the Jackson dataformats on the
+ * classpath.
+ */
+@WebMvcTest(ApplicationController.class)
+@Import({SecurityConfig.class, ContentNegotiationTest.Registries.class})
+@WithMockUser(username = ContentNegotiationTest.EMAIL)
+class ContentNegotiationTest {
+
+    static final String EMAIL = "user@example.com";
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final TypeReference<List<ApplicationResponse>> LIST = new TypeReference<>() {};
+
+    private final ObjectMapper json = JsonMapper.builder().build();
+    private final ObjectMapper cbor = CBORMapper.builder().build();
+    private final ObjectMapper smile = SmileMapper.builder().build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ApplicationService applicationService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @MockitoBean
+    private CustomUserDetailsService userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        when(applicationService.getAllApplications(EMAIL)).thenReturn(List.of(response(1L, "Google"),
+                response(2L, "Amazon")));
+    }
+
+    @Test
+    void shouldAnswerInTheAcceptedBinaryFormat() throws Exception {
+        // Given
+        List<ApplicationResponse> expected = json.readValue(list(MediaType.APPLICATION_JSON), LIST);
+
+        // When
+        byte[] cborBody = list(MediaType.APPLICATION_CBOR);
+        byte[] smileBody = list(SMILE);
+
+        // Then
+        assertThat(cbor.readValue(cborBody, LIST)).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(smile.readValue(smileBody, LIST)).usingRecursiveComparison().isEqualTo(expected);
+        assertThat(expected).extracting(ApplicationResponse::getCompanyName).containsExactly("Google", "Amazon");
+    }
+
+    @Test
+    void shouldDefaultToJson() throws Exception {
+        // When
+        MvcResult result = mockMvc.perform(get("/api/applications"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Then
+        assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(json.readValue(result.getResponse().getContentAsByteArray(), LIST)).hasSize(2);
+    }
+
+    @Test
+    void shouldAcceptCborRequestBody() throws Exception {
+        // Given
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCompanyName("Netflix");
+        request.setPositionTitle("Engineer");
+        request.setWorkMode(WorkMode.REMOTE);
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setApplicationDate(LocalDate.of(2026, 10, 1));
+        when(applicationService.createApplication(any(ApplicationRequest.class), eq(EMAIL)))
+                .thenAnswer(invocation -> {
+                    ApplicationRequest received = invocation.getArgument(0);
+                    return response(3L, received.getCompanyName());
+                });
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/applications")
+                        .contentType(MediaType.APPLICATION_CBOR)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .content(cbor.writeValueAsBytes(request)))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        // Then
+        ApplicationResponse created = cbor.readValue(result.getResponse().getContentAsByteArray(),
+                ApplicationResponse.class);
+        assertThat(created.getId()).isEqualTo(3L);
+        assertThat(created.getCompanyName()).isEqualTo("Netflix");
+    }
+
+    // The web slice has no observation or metrics auto-configuration; filters and advice need both
+    @TestConfiguration
+    static class Registries {
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.create();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private byte[] list(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/api/applications").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+
+    private static ApplicationResponse response(Long id, String companyName) {
+        ApplicationResponse response = new ApplicationResponse();
+        response.setId(id);
+        response.setCompanyName(companyName);
+        response.setPositionTitle("Engineer");
+        response.setWorkMode(WorkMode.HYBRID);
+        response.setStatus(ApplicationStatus.INTERVIEWING);
+        response.setApplicationDate(LocalDate.of(2026, 9, 15));
+        response.setCreatedAt(LocalDateTime.of(2026, 9, 15, 10, 30));
+        return response;
+    }
+}
@@ -0,0 +1,163 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import com.jobtracker.jobtracker.service.JwtService;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tools.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "jwt.secret=test-secret-key-that-is-at-least-256-bits-long",
+        "jwt.expiration=3600000",
+        "cache.invalidation.enabled=false",
+        "management.tracing.sampling.probability=1.0",
+        "sql.query-budget.fail=true",
+        "warmup.enabled=false"
+})
+@Testcontainers
+@ExtendWith(OutputCaptureExtension.class)
+class RequestTimingIntegrationTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @TestConfiguration
+    static class InMemoryCollector {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private InMemorySpanExporter spans;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldReportStageTimingsAndTraceEachStage(CapturedOutput output) throws Exception {
+        // Given
+        User user = new User();
+        user.setEmail("timing@example.com");
+        user.setFullName("Timing User");
+        user.setPassword("hashedPassword123");
+        userRepository.save(user);
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+        spans.reset();
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/applications?fields=id,companyName"))
+                .header("Authorization", "Bearer " + jwtService.generateToken("timing@example.com"))
+                .build();
+
+        // When
+        HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+        tracerProvider.forceFlush().join(5, TimeUnit.SECONDS);
+
+        // Then: The header carries everything that happened before the body
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Server-Timing")).hasValueSatisfying(header -> assertThat(header)
+                .matches("auth;dur=[\\d.]+, user;dur=[\\d.]+, db;dur=[\\d.]+;desc=\"2 queries\","
+                        + " sql;dur=[\\d.]+;desc=\"2 statements\", app;dur=[\\d.]+"));
+
+        // And: Each stage is a span in the request's trace
+        List<SpanData> exported = spans.getFinishedSpanItems();
+        assertThat(exported).extracting(SpanData::getName).contains(
+                "jwt authentication", "user lookup", "UserRepository.findByEmail",
+                "FieldProjectionRepository.findApplications", "serialize json");
+        assertThat(exported).extracting(SpanData::getTraceId).containsOnly(exported.get(0).getTraceId());
+
+        // And: The access log line has the whole request, serialization included
+        assertThat(output).contains("GET /api/applications 200");
+    }
+
+    @Test
+    void shouldKeepEveryWriteWithinItsQueryBudget() throws Exception {
+        // Given: sql.query-budget.fail turns a request over its @QueryBudget into an error response
+        User user = new User();
+        user.setEmail("writes@example.com");
+        user.setFullName("Write User");
+        user.setPassword("hashedPassword123");
+        userRepository.save(user);
+        String token = jwtService.generateToken("writes@example.com");
+        String application = """
+                {"companyName": "Acme", "positionTitle": "Engineer", "status": "APPLIED", "applicationDate": "2026-01-05"}""";
+        String note = """
+                {"content": "Phone screen booked"}""";
+
+        // When
+        HttpResponse<String> created = send(token, "POST", "/api/applications", application);
+        long applicationId = objectMapper.readTree(created.body()).get("id").asLong();
+        String applicationPath = "/api/applications/" + applicationId;
+        HttpResponse<String> updated = send(token, "PUT", applicationPath, application.replace("Acme", "Acme Corp"));
+        HttpResponse<String> noteCreated = send(token, "POST", applicationPath + "/notes", note);
+        String notePath = applicationPath + "/notes/" + objectMapper.readTree(noteCreated.body()).get("id").asLong();
+        HttpResponse<String> noteUpdated = send(token, "PUT", notePath, note.replace("booked", "done"));
+        HttpResponse<String> noteDeleted = send(token, "DELETE", notePath, null);
+        HttpResponse<String> deleted = send(token, "DELETE", applicationPath, null);
+        HttpResponse<String> batch = send(token, "POST", "/api/batch", """
+                {"operations": [
+                    {"op": "CREATE_APPLICATION", "tempId": "a", "body": %s},
+                    {"op": "CREATE_NOTE", "applicationRef": "a", "body": %s},
+                    {"op": "UPDATE_APPLICATION", "applicationRef": "a", "body": %s}
+                ]}""".formatted(application, note, application));
+
+        // Then
+        assertThat(created.statusCode()).isEqualTo(201);
+        assertThat(updated.statusCode()).as(updated.body()).isEqualTo(200);
+        assertThat(noteCreated.statusCode()).as(noteCreated.body()).isEqualTo(201);
+        assertThat(noteUpdated.statusCode()).as(noteUpdated.body()).isEqualTo(200);
+        assertThat(noteDeleted.statusCode()).as(noteDeleted.body()).isEqualTo(204);
+        assertThat(deleted.statusCode()).as(deleted.body()).isEqualTo(204);
+        assertThat(batch.statusCode()).as(batch.body()).isEqualTo(200);
+        assertThat(objectMapper.readTree(batch.body()).get("committed").asBoolean()).isTrue();
+    }
+
+    private HttpResponse<String> send(String token, String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer " + token);
+        if (json != null) {
+            request.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return HttpClient.newHttpClient().send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,56 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestTimingsTest {
+
+    @Test
+    void shouldSummarizeStagesBeforeTheBodyInServerTiming() {
+        // Given
+        RequestTimings timings = new RequestTimings(0);
+        timings.record(RequestStage.AUTH, 1_240_000);
+        timings.record(RequestStage.QUERY, 2_000_000);
+        timings.record(RequestStage.QUERY, 1_050_000);
+        timings.markFirstByte(5_000_000);
+        timings.record(RequestStage.SERIALIZE, 700_000);
+
+        // When
+        String header = timings.toServerTiming();
+        Map<String, Object> fields = timings.toLogFields(6_000_000);
+
+        // Then
+        assertThat(header).isEqualTo("auth;dur=1.2, db;dur=3.1;desc=\"2 queries\", app;dur=5.0");
+        assertThat(fields).containsExactly(
+                Map.entry("authMs", 1.2),
+                Map.entry("dbMs", 3.1),
+                Map.entry("serializeMs", 0.7),
+                Map.entry("queries", 2L),
+                Map.entry("durationMs", 6.0));
+    }
+
+    @Test
+    void shouldReportStatementsSeparatelyFromRepositoryCalls() {
+        // Given: One repository call that ran three statements
+        RequestTimings timings = new RequestTimings(0);
+        timings.record(RequestStage.QUERY, 3_000_000);
+        timings.recordStatement(1_000_000);
+        timings.recordStatement(500_000);
+        int statements = timings.recordStatement(500_000);
+        timings.markFirstByte(4_000_000);
+        timings.limitStatements(2);
+
+        // When
+        String header = timings.toServerTiming();
+        Map<String, Object> fields = timings.toLogFields(4_000_000);
+
+        // Then
+        assertThat(statements).isEqualTo(3);
+        assertThat(timings.isOverBudget()).isTrue();
+        assertThat(header).isEqualTo(
+                "db;dur=3.0;desc=\"1 query\", sql;dur=2.0;desc=\"3 statements\", app;dur=4.0");
+        assertThat(fields).containsEntry("sqlMs", 2.0).containsEntry("statements", 3);
+    }
+}
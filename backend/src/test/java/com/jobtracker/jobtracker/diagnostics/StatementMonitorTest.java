@@ -0,0 +1,140 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import com.jobtracker.jobtracker.exception.QueryBudgetExceededException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith({MockitoExtension.class, OutputCaptureExtension.class})
+class StatementMonitorTest {
+
+    private static final String SQL = "select id from applications where user_id = ? and status = ?";
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        observationRegistry.observationConfig().observationHandler(new RequestTimingHandler());
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+
+    @Test
+    void shouldCountStatementsAndLogSlowOnesWithParameterTypes(CapturedOutput output) throws Exception {
+        // Given
+        DataSource monitored = monitor(Duration.ZERO, false);
+        Observation request = requestObservation();
+
+        // When
+        try (Observation.Scope scope = request.openScope();
+             Connection wrapped = monitored.getConnection();
+             PreparedStatement prepared = wrapped.prepareStatement(SQL)) {
+            prepared.setLong(1, 42L);
+            prepared.setString(2, "APPLIED");
+            assertThat(prepared.executeQuery()).isSameAs(resultSet);
+        }
+
+        // Then
+        RequestTimings timings = request.getContext().get(RequestTimings.class);
+        assertThat(timings.statements()).isEqualTo(1);
+        assertThat(output).contains("Slow SQL statement").contains(SQL + " (Long, String)").doesNotContain("42");
+        verify(statement).setString(2, "APPLIED");
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldFailTheStatementOverBudgetWhenConfigured() throws Exception {
+        // Given: A budget of one statement
+        DataSource monitored = monitor(Duration.ofSeconds(1), true);
+        Observation request = requestObservation();
+        request.getContext().<RequestTimings>get(RequestTimings.class).limitStatements(1);
+
+        // When / Then
+        try (Observation.Scope scope = request.openScope();
+             Connection wrapped = monitored.getConnection();
+             PreparedStatement prepared = wrapped.prepareStatement(SQL)) {
+            prepared.executeQuery();
+            assertThatThrownBy(prepared::executeQuery)
+                    .isInstanceOf(QueryBudgetExceededException.class)
+                    .hasMessageContaining("2 SQL statements, over its budget of 1");
+        }
+    }
+
+    @Test
+    void shouldPassEachExecutionWithItsValuesToListeners() throws Exception {
+        // Given
+        StatementMonitor monitor = statementMonitor(Duration.ofSeconds(1), false);
+        DataSource monitored = (DataSource) monitor.postProcessAfterInitialization(dataSource, "dataSource");
+        List<List<Object>> executions = new ArrayList<>();
+        StatementMonitor.StatementListener listener = (sql, parameters) -> executions.add(parameters);
+        monitor.addListener(listener);
+
+        // When: Executed once while listened to, once after
+        try (Connection wrapped = monitored.getConnection();
+             PreparedStatement prepared = wrapped.prepareStatement(SQL)) {
+            prepared.setLong(1, 42L);
+            prepared.setNull(2, Types.VARCHAR);
+            prepared.executeQuery();
+            monitor.removeListener(listener);
+            prepared.executeQuery();
+        }
+
+        // Then
+        assertThat(executions).containsExactly(List.of(42L, new StatementMonitor.NullParameter(Types.VARCHAR)));
+    }
+
+    private DataSource monitor(Duration slowThreshold, boolean failOverBudget) {
+        return (DataSource) statementMonitor(slowThreshold, failOverBudget)
+                .postProcessAfterInitialization(dataSource, "dataSource");
+    }
+
+    private StatementMonitor statementMonitor(Duration slowThreshold, boolean failOverBudget) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("observationRegistry", observationRegistry);
+        return new StatementMonitor(beanFactory.getBeanProvider(ObservationRegistry.class), slowThreshold, failOverBudget);
+    }
+
+    private Observation requestObservation() {
+        ServerRequestObservationContext context =
+                new ServerRequestObservationContext(new MockHttpServletRequest("GET", "/api/applications"),
+                        new MockHttpServletResponse());
+        return Observation.createNotStarted("http.server.requests", () -> context, observationRegistry).start();
+    }
+}
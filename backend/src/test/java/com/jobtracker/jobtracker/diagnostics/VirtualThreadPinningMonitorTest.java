@@ -0,0 +1,62 @@
+package com.jobtracker.jobtracker.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+    private final Object lock = new Object();
+
+    @AfterEach
+    void tearDown() {
+        monitor.stop();
+    }
+
+    @Test
+    void shouldReportEachPinningSiteOnceWithItsCount() throws Exception {
+        // Given
+        monitor.start();
+
+        // When: Two virtual threads sleep while holding a monitor, one sleeps without it
+        Thread.ofVirtual().start(this::sleepInsideSynchronized).join();
+        Thread.ofVirtual().start(this::sleepInsideSynchronized).join();
+        Thread.ofVirtual().start(() -> sleep(50)).join();
+
+        // Then
+        Map<String, Long> sites = awaitSites(2);
+        assertThat(sites).hasSize(1);
+        Map.Entry<String, Long> site = sites.entrySet().iterator().next();
+        assertThat(site.getKey()).contains(getClass().getName() + ".sleepInsideSynchronized");
+        assertThat(site.getValue()).isEqualTo(2);
+    }
+
+    private void sleepInsideSynchronized() {
+        synchronized (lock) {
+            sleep(50);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // JFR hands events to the stream in periodic flushes, roughly once a second
+    private Map<String, Long> awaitSites(long events) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        Map<String, Long> sites = monitor.pinnedSites();
+        while (sites.values().stream().mapToLong(Long::longValue).sum() < events && System.nanoTime() < deadline) {
+            Thread.sleep(100);
+            sites = monitor.pinnedSites();
+        }
+        return sites;
+    }
+}
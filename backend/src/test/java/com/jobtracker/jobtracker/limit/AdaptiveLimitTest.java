@@ -0,0 +1,118 @@
+package com.jobtracker.jobtracker.limit;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    void shouldRejectOnceTheLimitIsInFlight() {
+        // Given
+        AdaptiveLimit limit = new AdaptiveLimit(2, 1, 10, 1.5, 10);
+
+        // When
+        boolean first = limit.tryAcquire();
+        boolean second = limit.tryAcquire();
+        boolean third = limit.tryAcquire();
+        limit.release();
+        boolean afterRelease = limit.tryAcquire();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(afterRelease).isTrue();
+        assertThat(limit.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGrowWhileLatencyHolds() {
+        // Given
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100, 1.5, 10);
+
+        // When
+        saturate(limit, FAST, false, 20);
+
+        // Then
+        assertThat(limit.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    void shouldShrinkWhenLatencyRises() {
+        // Given
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100, 1.5, 10);
+        saturate(limit, FAST, false, 20);
+        int before = limit.limit();
+
+        // When
+        saturate(limit, SLOW, false, 10);
+
+        // Then
+        assertThat(limit.limit()).isLessThan(before);
+    }
+
+    @Test
+    void shouldNotMoveWhileMostlyUnused() {
+        // Given
+        AdaptiveLimit limit = new AdaptiveLimit(10, 2, 100, 1.5, 10);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(i < 50 ? FAST : SLOW, false);
+        }
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldBackOffOnServerErrors() {
+        // Given
+        AdaptiveLimit limit = new AdaptiveLimit(20, 2, 100, 1.5, 10);
+
+        // When
+        saturate(limit, FAST, true, 10);
+
+        // Then
+        assertThat(limit.limit()).isLessThan(20);
+    }
+
+    @Test
+    void shouldStayWithinTheBounds() {
+        // Given
+        AdaptiveLimit limit = new AdaptiveLimit(10, 4, 12, 1.5, 10);
+
+        // When
+        saturate(limit, FAST, false, 50);
+        int grown = limit.limit();
+        saturate(limit, SLOW * 100, true, 50);
+
+        // Then
+        assertThat(grown).isEqualTo(12);
+        assertThat(limit.limit()).isEqualTo(4);
+    }
+
+    /**
+     * Fills every slot, then completes all of them with the given latency,
+     * until {@code windows} windows of ten requests have been sampled.
+     */
+    private static void saturate(AdaptiveLimit limit, long latencyNanos, boolean failed, int windows) {
+        int samples = 0;
+        while (samples < windows * 10) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(latencyNanos, failed);
+            }
+            samples += acquired;
+        }
+    }
+}
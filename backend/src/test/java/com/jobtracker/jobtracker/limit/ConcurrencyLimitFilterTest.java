@@ -0,0 +1,120 @@
+package com.jobtracker.jobtracker.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import tools.jackson.databind.json.JsonMapper;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Every class starts at a single slot
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(JsonMapper.builder().build(),
+            meterRegistry, 1, 10, 1, 10, 1, 10, 1, 1.5, 10, Duration.ofSeconds(2));
+
+    @Test
+    void shouldShedRequestsOverTheLimit() throws Exception {
+        // Given
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        FilterChain whileInFlight = (request, response) ->
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/applications/2"), second, noop());
+
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/applications/1"), first, whileInFlight);
+
+        // Then
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(second.getStatus()).isEqualTo(503);
+        assertThat(second.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(second.getContentAsString()).contains(ConcurrencyLimitFilter.OVERLOADED);
+        assertThat(meterRegistry.get("api.concurrency.rejected").tag("traffic", "read").counter().count())
+                .isEqualTo(1.0);
+        assertThat(filter.limit(TrafficClass.READ).inFlight()).isZero();
+    }
+
+    @Test
+    void shouldLimitAuthReadsAndWritesSeparately() throws Exception {
+        // Given
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        MockHttpServletResponse login = new MockHttpServletResponse();
+        MockHttpServletResponse health = new MockHttpServletResponse();
+        FilterChain whileReadInFlight = (request, response) -> {
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/applications"), write, noop());
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/auth/login"), login, noop());
+            filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), health, noop());
+        };
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/applications"), new MockHttpServletResponse(),
+                whileReadInFlight);
+
+        // Then
+        assertThat(write.getStatus()).isEqualTo(200);
+        assertThat(login.getStatus()).isEqualTo(200);
+        assertThat(health.getStatus()).isEqualTo(200);
+        assertThat(meterRegistry.get("api.concurrency.rejected").counters())
+                .allSatisfy(counter -> assertThat(counter.count()).isZero());
+    }
+
+    @Test
+    void shouldHoldTheSlotUntilAnAsyncRequestCompletes() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/applications");
+        request.setAsyncSupported(true);
+        FilterChain async = (req, res) -> req.startAsync();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), async);
+        int inFlightWhileAsync = filter.limit(TrafficClass.READ).inFlight();
+        MockAsyncContext context = (MockAsyncContext) request.getAsyncContext();
+        for (AsyncListener listener : context.getListeners()) {
+            listener.onTimeout(new AsyncEvent(context));
+        }
+        context.complete();
+
+        // Then: Released once, although the container reports both the timeout and the completion
+        assertThat(inFlightWhileAsync).isEqualTo(1);
+        assertThat(filter.limit(TrafficClass.READ).inFlight()).isZero();
+    }
+
+    @Test
+    void shouldFreeTheSlotOfAnEventStreamOnceTheHandlerReturns() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sync/stream");
+        request.setAsyncSupported(true);
+        FilterChain subscribe = (req, res) -> {
+            res.setContentType("text/event-stream;charset=UTF-8");
+            req.startAsync();
+        };
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), subscribe);
+
+        // Then
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(filter.limit(TrafficClass.READ).inFlight()).isZero();
+    }
+
+    @Test
+    void shouldExposeTheCurrentLimits() {
+        // Then
+        assertThat(meterRegistry.get("api.concurrency.limit").tag("traffic", "auth").gauge().value())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("api.concurrency.limit").gauges()).hasSize(3);
+        assertThat(meterRegistry.get("api.concurrency.in-flight").gauges()).hasSize(3);
+    }
+
+    private static FilterChain noop() {
+        return (request, response) -> { };
+    }
+}
@@ -0,0 +1,95 @@
+package com.jobtracker.jobtracker.projection;
+
+import com.jobtracker.jobtracker.exception.InvalidFieldsException;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class FieldSelectionsTest {
+
+    private final FieldSelections<ApplicationField> applicationFields =
+            new FieldSelections<>(ApplicationField.class, Set.of());
+
+    @Test
+    void shouldReuseCompiledSelectionForSameFieldSet() {
+        // When
+        FieldSelection<ApplicationField> first = applicationFields.parse("status,id,companyName");
+        FieldSelection<ApplicationField> second = applicationFields.parse(" companyName , id,status,id");
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(first.selectList()).isEqualTo("a.id, a.companyName, a.status");
+    }
+
+    @Test
+    void shouldRejectUnknownAndEmptyFieldNames() {
+        // When/Then
+        assertThatThrownBy(() -> applicationFields.parse("id,a.user.password"))
+            .isInstanceOf(InvalidFieldsException.class)
+            .hasMessageStartingWith("Unknown field 'a.user.password'");
+        assertThatThrownBy(() -> applicationFields.parse("id,Status"))
+            .isInstanceOf(InvalidFieldsException.class);
+        assertThatThrownBy(() -> applicationFields.parse(" , "))
+            .isInstanceOf(InvalidFieldsException.class)
+            .hasMessage("fields must name at least one field");
+    }
+
+    @Test
+    void shouldSelectRequiredFieldsWithoutReturningThem() {
+        // Given: Notes always select their keyset columns
+        FieldSelections<NoteField> noteFields =
+                new FieldSelections<>(NoteField.class, EnumSet.of(NoteField.ID, NoteField.CREATED_AT));
+        FieldSelection<NoteField> selection = noteFields.parse("updatedAt");
+        LocalDateTime createdAt = LocalDateTime.of(2026, 3, 1, 9, 0);
+        LocalDateTime updatedAt = createdAt.plusHours(2);
+        Tuple row = mock(Tuple.class);
+        when(row.get(0)).thenReturn(5L);
+        when(row.get(1)).thenReturn(createdAt);
+        when(row.get(2)).thenReturn(updatedAt);
+
+        // When
+        Map<String, Object> json = selection.toJson(row);
+
+        // Then
+        assertThat(selection.selectList()).isEqualTo("n.id, n.createdAt, n.updatedAt");
+        assertThat(json).containsExactly(Map.entry("updatedAt", updatedAt));
+        assertThat(selection.get(row, NoteField.CREATED_AT)).isEqualTo(createdAt);
+        assertThat(selection.isRequested(NoteField.ID)).isFalse();
+    }
+
+    @Test
+    void shouldWriteRowsThroughOneGenerator() {
+        // Given
+        FieldSelection<ApplicationField> selection = applicationFields.parse("companyName,id");
+        Tuple first = mock(Tuple.class);
+        when(first.get(0)).thenReturn(1L);
+        when(first.get(1)).thenReturn("Google");
+        Tuple second = mock(Tuple.class);
+        when(second.get(0)).thenReturn(2L);
+        when(second.get(1)).thenReturn(null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (JsonGenerator generator = JsonMapper.builder().build().createGenerator(out)) {
+            generator.writeStartArray();
+            selection.writeJson(generator, first);
+            selection.writeJson(generator, second);
+            generator.writeEndArray();
+        }
+
+        // Then
+        assertThat(out.toString())
+            .isEqualTo("[{\"id\":1,\"companyName\":\"Google\"},{\"id\":2,\"companyName\":null}]");
+    }
+}
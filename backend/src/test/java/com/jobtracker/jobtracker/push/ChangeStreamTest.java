@@ -0,0 +1,219 @@
+package com.jobtracker.jobtracker.push;
+
+import com.jobtracker.jobtracker.dto.ChangeNotification;
+import com.jobtracker.jobtracker.event.EntityChangedEvent;
+import com.jobtracker.jobtracker.model.SyncEntityType;
+import com.jobtracker.jobtracker.repository.SyncChangeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ChangeStreamTest {
+
+    private static final String OWNER = "owner@example.com";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SyncChangeRepository syncChangeRepository = mock(SyncChangeRepository.class);
+
+    @Test
+    void shouldPushCommittedChangesToOwnerOnly() {
+        // Given
+        ChangeStream stream = stream(16);
+        RecordingEmitter owner = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        stream.subscribe(OWNER, null, owner);
+        stream.subscribe("other@example.com", null, other);
+
+        // When
+        stream.onEntityChanged(change(1));
+
+        // Then
+        assertThat(owner.frames).containsExactly(":connected\n\n", "id:1\nevent:change\ndata:NOTE#10\n\n");
+        assertThat(other.frames).containsExactly(":connected\n\n");
+        assertThat(meterRegistry.get("sse.connections").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldReplayChangesAfterLastEventId() {
+        // Given: Three changes committed while the client was away and another tab stayed open
+        ChangeStream stream = stream(16);
+        stream.subscribe(OWNER, null, new RecordingEmitter());
+        for (long sequence = 1; sequence <= 3; sequence++) {
+            stream.onEntityChanged(change(sequence));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        stream.subscribe(OWNER, 1L, emitter);
+        stream.onEntityChanged(change(4));
+
+        // Then
+        assertThat(emitter.frames).extracting(frame -> frame.substring(0, frame.indexOf('\n')))
+            .containsExactly("id:2", "id:3", "id:4");
+    }
+
+    @Test
+    void shouldAskForResyncWhenRingNoLongerHoldsMissedChanges() {
+        // Given: A ring of two that has already dropped changes 1 and 2
+        ChangeStream stream = stream(2);
+        stream.subscribe(OWNER, null, new RecordingEmitter());
+        for (long sequence = 1; sequence <= 4; sequence++) {
+            stream.onEntityChanged(change(sequence));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        // When
+        stream.subscribe(OWNER, 1L, emitter);
+
+        // Then
+        assertThat(emitter.frames).containsExactly("event:resync\ndata:{since=1}\n\n");
+    }
+
+    @Test
+    void shouldStartAnEmptyRingAtTheLastCommittedChange() {
+        // Given: The user's last change was committed before any stream of theirs was open
+        ChangeStream stream = stream(16);
+        when(syncChangeRepository.findLastSequenceByEmail(OWNER)).thenReturn(Optional.of(3L));
+        RecordingEmitter current = new RecordingEmitter();
+        RecordingEmitter behind = new RecordingEmitter();
+
+        // When
+        stream.subscribe(OWNER, 3L, current);
+        stream.onEntityChanged(change(4));
+        stream.subscribe(OWNER, 2L, behind);
+
+        // Then: Nothing missed for the client that has change 3, the other one has to catch up
+        assertThat(current.frames).containsExactly("id:4\nevent:change\ndata:NOTE#10\n\n");
+        assertThat(behind.frames).containsExactly("event:resync\ndata:{since=2}\n\n");
+    }
+
+    @Test
+    void shouldKeepNoStateForOwnersWithoutStreams() {
+        // Given
+        ChangeStream stream = stream(16);
+
+        // When
+        stream.onEntityChanged(change(1));
+
+        // Then
+        assertThat(stream.channelCount()).isZero();
+    }
+
+    @Test
+    void shouldDropChannelOnceItsLastStreamIsGoneForTheRetentionPeriod() {
+        // Given: The only stream failed, but changes keep coming
+        ChangeStream stream = stream(16, Duration.ZERO);
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(OWNER, null, emitter);
+        emitter.failing = true;
+        stream.onEntityChanged(change(1));
+        stream.onEntityChanged(change(2));
+
+        // When
+        stream.tick();
+
+        // Then
+        assertThat(stream.channelCount()).isZero();
+    }
+
+    @Test
+    void shouldAskLiveStreamsToResyncFromTheirLastChange() {
+        // Given: One stream has seen change 1, the other connected after change 1 and has seen nothing
+        ChangeStream stream = stream(16);
+        RecordingEmitter seen = new RecordingEmitter();
+        stream.subscribe(OWNER, null, seen);
+        stream.onEntityChanged(change(1));
+        RecordingEmitter resumed = new RecordingEmitter();
+        stream.subscribe(OWNER, 1L, resumed);
+
+        // When: The relay from other nodes was interrupted
+        stream.resyncAll();
+
+        // Then
+        assertThat(seen.frames).containsExactly(":connected\n\n", "id:1\nevent:change\ndata:NOTE#10\n\n",
+                "event:resync\ndata:{since=1}\n\n");
+        assertThat(resumed.frames).containsExactly("event:resync\ndata:{since=1}\n\n");
+    }
+
+    @Test
+    void shouldDropSubscriberWhoseConnectionFailed() {
+        // Given
+        ChangeStream stream = stream(16);
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(OWNER, null, emitter);
+        emitter.failing = true;
+
+        // When
+        stream.onEntityChanged(change(1));
+        stream.tick();
+
+        // Then
+        assertThat(stream.connectionCount()).isZero();
+        assertThat(emitter.frames).containsExactly(":connected\n\n");
+    }
+
+    @Test
+    void shouldSendHeartbeatsToOpenStreams() {
+        // Given
+        ChangeStream stream = stream(16);
+        RecordingEmitter emitter = new RecordingEmitter();
+        stream.subscribe(OWNER, null, emitter);
+
+        // When
+        stream.tick();
+
+        // Then
+        assertThat(emitter.frames).containsExactly(":connected\n\n", ":heartbeat\n\n");
+    }
+
+    // -- Helpers -------------------------------------------------------
+
+    private ChangeStream stream(int replayCapacity) {
+        return stream(replayCapacity, Duration.ofMinutes(10));
+    }
+
+    private ChangeStream stream(int replayCapacity, Duration retention) {
+        return new ChangeStream(Duration.ofMinutes(30), Duration.ofSeconds(15), replayCapacity,
+                retention, meterRegistry, syncChangeRepository, Runnable::run);
+    }
+
+    private static EntityChangedEvent change(long sequence) {
+        return new EntityChangedEvent(OWNER, SyncEntityType.NOTE, 10L, 1L, false, sequence);
+    }
+
+    /**
+     * Renders each sent event the way it goes over the wire, with the data
+     * object reduced to its type and id.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> frames = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            StringBuilder frame = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+                Object data = part.getData();
+                frame.append(data instanceof ChangeNotification change
+                        ? change.getType() + "#" + change.getId()
+                        : data.toString());
+            }
+            frames.add(frame.toString());
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.jobtracker.jobtracker.repository;
 
 import java.time.LocalDate;
 import static org.assertj.core.api.Assertions.assertThat;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.testcontainers.containers.PostgreSQLContainer;
@@ -12,12 +15,14 @@ import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import com.jobtracker.jobtracker.model.Application;
 import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.Note;
 import com.jobtracker.jobtracker.model.User;
 import com.jobtracker.jobtracker.model.WorkMode;
 import java.util.List;
 import java.util.Optional;
+import jakarta.persistence.EntityManagerFactory;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Testcontainers
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 class ApplicationRepositoryTest {
@@ -32,6 +37,15 @@ class ApplicationRepositoryTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     void shouldSaveAndRetrieveApplication() {
         // Given: Create a user and application
@@ -193,4 +207,122 @@ class ApplicationRepositoryTest {
         // Then: Should NOT find the application (security check)
         assertThat(found).isEmpty();
     }
+
+    @Test
+    void shouldFetchApplicationWithNotesInSingleStatement() {
+        // Given: An application with several notes
+        User user = new User();
+        user.setEmail("notes@example.com");
+        user.setFullName("Notes User");
+        user.setPassword("password123");
+        user = userRepository.save(user);
+
+        Application app = new Application();
+        app.setUser(user);
+        app.setCompanyName("Spotify");
+        app.setPositionTitle("Backend Engineer");
+        app.setApplicationDate(LocalDate.now());
+        app.setStatus(ApplicationStatus.INTERVIEWING);
+        app = applicationRepository.save(app);
+
+        for (String content : List.of("Phone screen", "Take-home", "Onsite")) {
+            Note note = new Note();
+            note.setApplication(app);
+            note.setContent(content);
+            noteRepository.save(note);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When: Load the application together with its notes
+        Optional<Application> found = applicationRepository.findWithNotesByIdAndUserEmail(
+            app.getId(),
+            "notes@example.com"
+        );
+
+        // Then: Application and notes come back from one statement
+        assertThat(found).isPresent();
+        assertThat(found.get().getNotes()).extracting(Note::getContent)
+                .containsExactly("Phone screen", "Take-home", "Onsite");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotFetchApplicationWithNotesForDifferentUser() {
+        // Given: Create a user and application
+        User owner = new User();
+        owner.setEmail("owner@example.com");
+        owner.setFullName("Owner");
+        owner.setPassword("password123");
+        owner = userRepository.save(owner);
+
+        Application app = new Application();
+        app.setUser(owner);
+        app.setCompanyName("Netflix");
+        app.setPositionTitle("Engineer");
+        app.setApplicationDate(LocalDate.now());
+        app.setStatus(ApplicationStatus.APPLIED);
+        app = applicationRepository.save(app);
+
+        // When: Try to load it with a different user email
+        Optional<Application> found = applicationRepository.findWithNotesByIdAndUserEmail(
+            app.getId(),
+            "hacker@example.com"
+        );
+
+        // Then: Should NOT find the application
+        assertThat(found).isEmpty();
+    }
+
+    @Test
+    void shouldSummarizeNotesForAllApplicationsInSingleStatement() {
+        // Given: Several applications, some with notes
+        User user = new User();
+        user.setEmail("summary@example.com");
+        user.setFullName("Summary User");
+        user.setPassword("password123");
+        user = userRepository.save(user);
+
+        for (int i = 0; i < 5; i++) {
+            Application app = new Application();
+            app.setUser(user);
+            app.setCompanyName("Company " + i);
+            app.setPositionTitle("Engineer");
+            app.setApplicationDate(LocalDate.now());
+            app.setStatus(ApplicationStatus.APPLIED);
+            app = applicationRepository.save(app);
+
+            for (int j = 0; j < i; j++) {
+                Note note = new Note();
+                note.setApplication(app);
+                note.setContent("Note " + j + " for company " + i);
+                noteRepository.save(note);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When: Load the list with note summaries
+        List<Object[]> rows = applicationRepository.findWithNoteSummaryByUserEmail("summary@example.com", 10);
+
+        // Then: Counts and newest previews come back with the applications from one statement
+        assertThat(rows).hasSize(5);
+        for (Object[] row : rows) {
+            Application app = (Application) row[0];
+            int expectedNotes = Integer.parseInt(app.getCompanyName().substring("Company ".length()));
+            assertThat(row[1]).isEqualTo((long) expectedNotes);
+            if (expectedNotes == 0) {
+                assertThat(row[2]).isNull();
+            } else {
+                assertThat(row[2]).isEqualTo(("Note " + (expectedNotes - 1) + " for company").substring(0, 10));
+            }
+        }
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,126 @@
+package com.jobtracker.jobtracker.repository;
+
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.projection.ApplicationField;
+import com.jobtracker.jobtracker.projection.FieldSelection;
+import com.jobtracker.jobtracker.projection.FieldSelections;
+import com.jobtracker.jobtracker.projection.NoteField;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.persistence.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FieldProjectionRepository.class)
+class FieldProjectionRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @TestConfiguration
+    static class Observations {
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.NOOP;
+        }
+    }
+
+    @Autowired
+    private FieldProjectionRepository fieldProjectionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        // Given: One application with three notes
+        User user = new User();
+        user.setEmail("owner@example.com");
+        user.setFullName("Test User");
+        user.setPassword("hashedPassword123");
+        entityManager.persist(user);
+
+        application = new Application();
+        application.setUser(user);
+        application.setCompanyName("Google");
+        application.setPositionTitle("Software Engineer");
+        application.setApplicationDate(LocalDate.now());
+        application.setNextStepDate(LocalDate.of(2026, 11, 2));
+        application.setStatus(ApplicationStatus.INTERVIEWING);
+        entityManager.persist(application);
+
+        for (int i = 1; i <= 3; i++) {
+            Note note = new Note();
+            note.setApplication(application);
+            note.setContent("Note " + i);
+            entityManager.persist(note);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldSelectOnlyRequestedApplicationFields() {
+        // Given
+        FieldSelection<ApplicationField> selection = new FieldSelections<>(ApplicationField.class, Set.of())
+                .parse("id,companyName,status,nextStepDate,noteCount");
+
+        // When
+        List<Tuple> rows = fieldProjectionRepository.findApplications(selection, "owner@example.com", 120);
+
+        // Then
+        assertThat(rows).hasSize(1);
+        Map<String, Object> json = selection.toJson(rows.get(0));
+        assertThat(json).containsOnlyKeys("id", "companyName", "status", "nextStepDate", "noteCount");
+        assertThat(json.get("status")).isEqualTo(ApplicationStatus.INTERVIEWING);
+        assertThat(json.get("nextStepDate")).isEqualTo(LocalDate.of(2026, 11, 2));
+        assertThat(json.get("noteCount")).isEqualTo(3L);
+        assertThat(fieldProjectionRepository.findApplications(selection, "stranger@example.com", 120)).isEmpty();
+    }
+
+    @Test
+    void shouldPageProjectedNotesByKeyset() {
+        // Given
+        FieldSelection<NoteField> selection = new FieldSelections<>(NoteField.class,
+                EnumSet.of(NoteField.ID, NoteField.CREATED_AT)).parse("content");
+
+        // When
+        List<Tuple> first = fieldProjectionRepository.findNotes(selection, application.getId(), null, null, 4, 2);
+        Tuple last = first.get(1);
+        List<Tuple> second = fieldProjectionRepository.findNotes(selection, application.getId(),
+                (LocalDateTime) selection.get(last, NoteField.CREATED_AT), (Long) selection.get(last, NoteField.ID), 4, 2);
+
+        // Then
+        assertThat(first).extracting(row -> selection.toJson(row).get("content")).containsExactly("Note", "Note");
+        assertThat(second).hasSize(1);
+        assertThat(selection.toJson(second.get(0))).containsOnlyKeys("content");
+    }
+}
@@ -6,13 +6,18 @@ import com.jobtracker.jobtracker.model.Note;
 import com.jobtracker.jobtracker.model.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -34,6 +39,9 @@ class NoteRepositoryTest {
     @Autowired
     private ApplicationRepository applicationRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void shouldSaveAndRetrieveNote() {
         // Given: Create a user and application
@@ -62,4 +70,132 @@ class NoteRepositoryTest {
         assertThat(savedNote.getContent()).isEqualTo("Great interview!");
         assertThat(savedNote.getApplication().getId()).isEqualTo(app.getId());
     }
+
+    @Test
+    void shouldUpdateOwnedNoteAndReturnNewRow() {
+        // Given: A note on the user's application
+        Note note = saveNote(saveApplication(saveUser("owner@example.com")), "Draft");
+        entityManager.flush();
+        entityManager.clear();
+
+        // When: Update it through the owner-scoped statement
+        Optional<NoteUpdateRow> updated = noteRepository.updateOwnedNote(
+            note.getId(), note.getApplication().getId(), "owner@example.com", "Final", null, LocalDateTime.now());
+
+        // Then: The new content comes back and is persisted
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getContent()).isEqualTo("Final");
+        assertThat(updated.get().getCreatedAt()).isNotNull();
+        assertThat(updated.get().getRevision()).isEqualTo(2);
+        assertThat(updated.get().getPreviousContent()).isEqualTo("Draft");
+        assertThat(updated.get().getPreviousUpdatedAt()).isNotNull();
+        entityManager.clear();
+        assertThat(noteRepository.findById(note.getId())).get().extracting(Note::getContent).isEqualTo("Final");
+    }
+
+    @Test
+    void shouldStoreCompressedBodyNextToPreviewPrefix() {
+        // Given: A plain note
+        Note note = saveNote(saveApplication(saveUser("owner@example.com")), "Short");
+        byte[] compressed = {1, 2, 3};
+
+        // When: Update it with a compressed body
+        noteRepository.updateOwnedNote(
+            note.getId(), note.getApplication().getId(), "owner@example.com", "Prefix", compressed, LocalDateTime.now());
+
+        // Then: Both columns are written
+        entityManager.clear();
+        Note stored = noteRepository.findById(note.getId()).orElseThrow();
+        assertThat(stored.getContent()).isEqualTo("Prefix");
+        assertThat(stored.getContentCompressed()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void shouldNotUpdateNoteOfAnotherUser() {
+        // Given: A note on someone else's application
+        Note note = saveNote(saveApplication(saveUser("owner@example.com")), "Private");
+        saveUser("hacker@example.com");
+
+        // When: Another user tries to update it
+        Optional<NoteUpdateRow> updated = noteRepository.updateOwnedNote(
+            note.getId(), note.getApplication().getId(), "hacker@example.com", "Hacked", null, LocalDateTime.now());
+
+        // Then: Nothing matches
+        assertThat(updated).isEmpty();
+        entityManager.clear();
+        assertThat(noteRepository.findById(note.getId())).get().extracting(Note::getContent).isEqualTo("Private");
+    }
+
+    @Test
+    void shouldDeleteOnlyOwnedNote() {
+        // Given: A note on the user's application
+        Note note = saveNote(saveApplication(saveUser("owner@example.com")), "To delete");
+        Long applicationId = note.getApplication().getId();
+
+        // When/Then: A foreign user or a wrong application deletes nothing
+        assertThat(noteRepository.deleteOwnedNote(note.getId(), applicationId, "hacker@example.com")).isZero();
+        assertThat(noteRepository.deleteOwnedNote(note.getId(), applicationId + 1, "owner@example.com")).isZero();
+
+        // When/Then: The owner deletes it with one statement
+        assertThat(noteRepository.deleteOwnedNote(note.getId(), applicationId, "owner@example.com")).isEqualTo(1);
+        entityManager.clear();
+        assertThat(noteRepository.findById(note.getId())).isEmpty();
+    }
+
+    @Test
+    void shouldPageNotesNewestFirstByKeyset() {
+        // Given: Three notes, two sharing a creation time
+        Application app = saveApplication(saveUser("owner@example.com"));
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 12, 0);
+        Note oldest = saveNote(app, "Oldest");
+        Note tiedFirst = saveNote(app, "Tied first");
+        Note tiedSecond = saveNote(app, "Tied second with a long body");
+        setCreatedAt(oldest, base.minusHours(1));
+        setCreatedAt(tiedFirst, base);
+        setCreatedAt(tiedSecond, base);
+
+        // When: Fetch the first page of two, then continue after its last row
+        List<NoteRow> first = noteRepository.findPreviewsByApplicationId(app.getId(), 6, Limit.of(2));
+        NoteRow last = first.get(1);
+        List<NoteRow> second = noteRepository.findPreviewsByApplicationIdBefore(
+            app.getId(), last.getCreatedAt(), last.getId(), 6, Limit.of(2));
+
+        // Then: Ties are broken by id and content is cut in the database
+        assertThat(first).extracting(NoteRow::getId).containsExactly(tiedSecond.getId(), tiedFirst.getId());
+        assertThat(first.get(0).getContent()).isEqualTo("Tied s");
+        assertThat(second).extracting(NoteRow::getId).containsExactly(oldest.getId());
+    }
+
+    private void setCreatedAt(Note note, LocalDateTime createdAt) {
+        entityManager.getEntityManager()
+            .createNativeQuery("update notes set created_at = :createdAt where id = :id")
+            .setParameter("createdAt", createdAt)
+            .setParameter("id", note.getId())
+            .executeUpdate();
+    }
+
+    private User saveUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setFullName("Test User");
+        user.setPassword("hashedPassword123");
+        return userRepository.save(user);
+    }
+
+    private Application saveApplication(User user) {
+        Application app = new Application();
+        app.setUser(user);
+        app.setCompanyName("Google");
+        app.setPositionTitle("Software Engineer");
+        app.setApplicationDate(LocalDate.now());
+        app.setStatus(ApplicationStatus.APPLIED);
+        return applicationRepository.save(app);
+    }
+
+    private Note saveNote(Application app, String content) {
+        Note note = new Note();
+        note.setApplication(app);
+        note.setContent(content);
+        return noteRepository.saveAndFlush(note);
+    }
 }
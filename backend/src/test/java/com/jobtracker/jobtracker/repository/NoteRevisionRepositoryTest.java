@@ -0,0 +1,106 @@
+package com.jobtracker.jobtracker.repository;
+
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.model.NoteRevision;
+import com.jobtracker.jobtracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class NoteRevisionRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private NoteRevisionRepository revisionRepository;
+
+    @Autowired
+    private NoteRepository noteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Note note;
+
+    @BeforeEach
+    void setUp() {
+        // Given: Revisions 1-7 of a note, with snapshots at 3 and 6
+        User user = new User();
+        user.setEmail("owner@example.com");
+        user.setFullName("Test User");
+        user.setPassword("hashedPassword123");
+        entityManager.persist(user);
+
+        Application app = new Application();
+        app.setUser(user);
+        app.setCompanyName("Google");
+        app.setPositionTitle("Software Engineer");
+        app.setApplicationDate(LocalDate.now());
+        app.setStatus(ApplicationStatus.APPLIED);
+        entityManager.persist(app);
+
+        note = new Note();
+        note.setApplication(app);
+        note.setContent("Current");
+        note.setRevision(8);
+        entityManager.persist(note);
+
+        for (int revision = 1; revision <= 7; revision++) {
+            NoteRevision row = new NoteRevision();
+            row.setNote(note);
+            row.setRevision(revision);
+            row.setSnapshot(Set.of(3, 6).contains(revision));
+            row.setData(new byte[] {(byte) revision});
+            row.setCreatedAt(LocalDateTime.now().minusDays(8 - revision));
+            entityManager.persist(row);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void shouldReturnChainUpToNearestSnapshotAbove() {
+        // When/Then: Newest first, stopping at the snapshot
+        assertThat(revisionRepository.findReconstructionChain(note.getId(), 1))
+            .extracting(NoteRevision::getRevision).containsExactly(3, 2, 1);
+        assertThat(revisionRepository.findReconstructionChain(note.getId(), 6))
+            .extracting(NoteRevision::getRevision).containsExactly(6);
+    }
+
+    @Test
+    void shouldReturnAllLaterRevisionsWhenNoSnapshotAbove() {
+        // When/Then: Revision 7 rebuilds from the current content
+        assertThat(revisionRepository.findReconstructionChain(note.getId(), 7))
+            .extracting(NoteRevision::getRevision).containsExactly(7);
+    }
+
+    @Test
+    void shouldListRevisionsNewestFirstAndCascadeOnNoteDelete() {
+        // When
+        assertThat(revisionRepository.findSummariesByNoteId(note.getId()))
+            .extracting(NoteRevisionSummary::getRevision).containsExactly(7, 6, 5, 4, 3, 2, 1);
+        noteRepository.deleteOwnedNote(note.getId(), note.getApplication().getId(), "owner@example.com");
+
+        // Then
+        assertThat(revisionRepository.count()).isZero();
+    }
+}
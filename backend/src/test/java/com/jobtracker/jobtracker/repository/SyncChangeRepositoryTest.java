@@ -0,0 +1,106 @@
+package com.jobtracker.jobtracker.repository;
+
+import com.jobtracker.jobtracker.model.SyncChange;
+import com.jobtracker.jobtracker.model.SyncEntityType;
+import com.jobtracker.jobtracker.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Limit;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Testcontainers
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SyncChangeRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private SyncChangeRepository syncChangeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = createUser("owner@example.com");
+        createUser("other@example.com");
+        entityManager.flush();
+    }
+
+    @Test
+    void shouldHandOutIncreasingSequencesPerUser() {
+        // When
+        long first = syncChangeRepository.recordChange("owner@example.com", "APPLICATION", 1L, 1L, false);
+        long second = syncChangeRepository.recordChange("owner@example.com", "NOTE", 10L, 1L, false);
+        long other = syncChangeRepository.recordChange("other@example.com", "APPLICATION", 2L, 2L, false);
+
+        // Then
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(2L);
+        assertThat(other).isEqualTo(1L);
+        assertThat(syncChangeRepository.findLastSequence(user.getId())).contains(2L);
+        assertThat(syncChangeRepository.findLastSequenceByEmail("owner@example.com")).contains(2L);
+    }
+
+    @Test
+    void shouldMoveEntityToLatestSequenceAndKeepTombstone() {
+        // Given
+        syncChangeRepository.recordChange("owner@example.com", "APPLICATION", 1L, 1L, false);
+        syncChangeRepository.recordChange("owner@example.com", "APPLICATION", 2L, 2L, false);
+
+        // When
+        syncChangeRepository.recordChange("owner@example.com", "APPLICATION", 1L, 1L, true);
+        entityManager.clear();
+
+        // Then: One row per entity, read back in sequence order
+        List<SyncChange> changes = syncChangeRepository
+                .findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(user.getId(), 0L, Limit.of(10));
+        assertThat(changes).extracting(SyncChange::getEntityId).containsExactly(2L, 1L);
+        assertThat(changes).extracting(SyncChange::getSequence).containsExactly(2L, 3L);
+        assertThat(changes.get(1).isDeleted()).isTrue();
+        assertThat(changes.get(1).getEntityType()).isEqualTo(SyncEntityType.APPLICATION);
+
+        List<SyncChange> afterSecond = syncChangeRepository
+                .findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(user.getId(), 2L, Limit.of(10));
+        assertThat(afterSecond).extracting(SyncChange::getEntityId).containsExactly(1L);
+    }
+
+    @Test
+    void shouldReserveARunOfSequencesAfterTheLastOne() {
+        // Given
+        syncChangeRepository.recordChange("owner@example.com", "APPLICATION", 1L, 1L, false);
+
+        // When
+        SequenceBlock block = syncChangeRepository.reserveSequences("owner@example.com", 5).orElseThrow();
+        long next = syncChangeRepository.recordChange("owner@example.com", "APPLICATION", 2L, 2L, false);
+
+        // Then
+        assertThat(block.getUserId()).isEqualTo(user.getId());
+        assertThat(block.getLastSequence()).isEqualTo(6L);
+        assertThat(next).isEqualTo(7L);
+        assertThat(syncChangeRepository.reserveSequences("missing@example.com", 1)).isEmpty();
+    }
+
+    private User createUser(String email) {
+        User created = new User();
+        created.setEmail(email);
+        created.setFullName("Test User");
+        created.setPassword("hashedPassword123");
+        return entityManager.persist(created);
+    }
+}
@@ -0,0 +1,244 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.dto.BatchMode;
+import com.jobtracker.jobtracker.dto.BatchOperation;
+import com.jobtracker.jobtracker.dto.BatchOperationType;
+import com.jobtracker.jobtracker.dto.BatchRequest;
+import com.jobtracker.jobtracker.dto.BatchResponse;
+import com.jobtracker.jobtracker.dto.BatchResult;
+import com.jobtracker.jobtracker.dto.NoteRequest;
+import com.jobtracker.jobtracker.dto.NoteResponse;
+import com.jobtracker.jobtracker.exception.ApplicationNotFoundException;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+import java.util.List;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchServiceTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    @Mock
+    private ApplicationService applicationService;
+
+    @Mock
+    private NoteService noteService;
+
+    @Mock
+    private ChangeLog changeLog;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final SimpleTransactionStatus transactionStatus = new SimpleTransactionStatus();
+    private ValidatorFactory validatorFactory;
+    private BatchService batchService;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        Validator validator = validatorFactory.getValidator();
+        batchService = new BatchService(applicationService, noteService, changeLog, userRepository,
+                new TransactionTemplate(transactionManager), validator, jsonMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void shouldResolveTempIdsAndLoadUserOnce() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        User user = new User();
+        user.setEmail(EMAIL);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(applicationService.createApplication(any(ApplicationRequest.class), eq(user)))
+                .thenReturn(application(10L), application(11L));
+        when(noteService.createNote(eq(11L), any(NoteRequest.class), eq(EMAIL))).thenReturn(note(20L));
+
+        BatchRequest request = batch(BatchMode.ATOMIC,
+                create("a1", applicationBody()),
+                create("a2", applicationBody()),
+                noteFor("a2", "Called the recruiter"));
+
+        // When
+        BatchResponse response = batchService.execute(request, EMAIL);
+
+        // Then
+        assertThat(response.getCommitted()).isTrue();
+        assertThat(response.getResults()).extracting(BatchResult::getStatus).containsExactly(201, 201, 201);
+        assertThat(response.getResults()).extracting(BatchResult::getId).containsExactly(10L, 11L, 20L);
+        assertThat(response.getResults().get(0).getTempId()).isEqualTo("a1");
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        InOrder order = inOrder(changeLog, noteService);
+        order.verify(changeLog).deferWrites();
+        order.verify(noteService).createNote(eq(11L), any(NoteRequest.class), eq(EMAIL));
+        order.verify(changeLog).writeDeferred();
+        assertThat(transactionStatus.isRollbackOnly()).isFalse();
+        verify(transactionManager).commit(transactionStatus);
+    }
+
+    @Test
+    void shouldRollBackAtomicBatchOnFirstFailure() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(applicationService.updateApplication(eq(1L), any(ApplicationRequest.class), eq(EMAIL)))
+                .thenReturn(application(1L));
+        doThrow(new ApplicationNotFoundException(2L)).when(applicationService).deleteApplication(2L, EMAIL);
+
+        BatchRequest request = batch(BatchMode.ATOMIC,
+                update(1L, applicationBody()),
+                delete(2L),
+                delete(3L));
+
+        // When
+        BatchResponse response = batchService.execute(request, EMAIL);
+
+        // Then
+        assertThat(response.getCommitted()).isFalse();
+        assertThat(response.getResults()).extracting(BatchResult::getStatus).containsExactly(424, 404, 424);
+        assertThat(response.getResults().get(0).getError()).isEqualTo("Rolled back because operation 1 failed");
+        assertThat(response.getResults().get(2).getError()).isEqualTo("Not executed because operation 1 failed");
+        verify(applicationService, never()).deleteApplication(3L, EMAIL);
+        verify(changeLog, never()).writeDeferred();
+        assertThat(transactionStatus.isRollbackOnly()).isTrue();
+    }
+
+    @Test
+    void shouldContinueIndependentBatchAfterFailure() {
+        // Given
+        doThrow(new ApplicationNotFoundException(2L)).when(applicationService).deleteApplication(2L, EMAIL);
+
+        BatchRequest request = batch(BatchMode.INDEPENDENT, delete(2L), delete(3L));
+
+        // When
+        BatchResponse response = batchService.execute(request, EMAIL);
+
+        // Then
+        assertThat(response.getCommitted()).isNull();
+        assertThat(response.getResults()).extracting(BatchResult::getStatus).containsExactly(404, 204);
+        verify(applicationService).deleteApplication(3L, EMAIL);
+        verifyNoInteractions(transactionManager, changeLog);
+    }
+
+    @Test
+    void shouldReportFieldErrorsForInvalidBody() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        ObjectNode body = applicationBody();
+        body.remove("companyName");
+
+        // When
+        BatchResponse response = batchService.execute(batch(BatchMode.ATOMIC, update(1L, body)), EMAIL);
+
+        // Then
+        BatchResult result = response.getResults().get(0);
+        assertThat(result.getStatus()).isEqualTo(400);
+        assertThat(result.getFieldErrors()).containsEntry("companyName", "Company name is required");
+        verifyNoInteractions(applicationService);
+    }
+
+    @Test
+    void shouldRejectUnknownReference() {
+        // Given
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+
+        // When
+        BatchResponse response = batchService.execute(
+                batch(BatchMode.ATOMIC, noteFor("missing", "Hello")), EMAIL);
+
+        // Then
+        BatchResult result = response.getResults().get(0);
+        assertThat(result.getStatus()).isEqualTo(400);
+        assertThat(result.getError()).isEqualTo("Unknown applicationRef: missing");
+        verifyNoInteractions(noteService);
+    }
+
+    // -- Helpers -------------------------------------------------------
+
+    private static BatchRequest batch(BatchMode mode, BatchOperation... operations) {
+        BatchRequest request = new BatchRequest();
+        request.setMode(mode);
+        request.setOperations(List.of(operations));
+        return request;
+    }
+
+    private static BatchOperation create(String tempId, ObjectNode body) {
+        BatchOperation operation = new BatchOperation();
+        operation.setOp(BatchOperationType.CREATE_APPLICATION);
+        operation.setTempId(tempId);
+        operation.setBody(body);
+        return operation;
+    }
+
+    private static BatchOperation update(Long applicationId, ObjectNode body) {
+        BatchOperation operation = new BatchOperation();
+        operation.setOp(BatchOperationType.UPDATE_APPLICATION);
+        operation.setApplicationId(applicationId);
+        operation.setBody(body);
+        return operation;
+    }
+
+    private static BatchOperation delete(Long applicationId) {
+        BatchOperation operation = new BatchOperation();
+        operation.setOp(BatchOperationType.DELETE_APPLICATION);
+        operation.setApplicationId(applicationId);
+        return operation;
+    }
+
+    private BatchOperation noteFor(String applicationRef, String content) {
+        BatchOperation operation = new BatchOperation();
+        operation.setOp(BatchOperationType.CREATE_NOTE);
+        operation.setApplicationRef(applicationRef);
+        operation.setBody(jsonMapper.createObjectNode().put("content", content));
+        return operation;
+    }
+
+    private ObjectNode applicationBody() {
+        return jsonMapper.createObjectNode()
+                .put("companyName", "Acme")
+                .put("positionTitle", "Engineer")
+                .put("status", "APPLIED")
+                .put("applicationDate", "2026-01-15");
+    }
+
+    private static ApplicationResponse application(Long id) {
+        ApplicationResponse response = new ApplicationResponse();
+        response.setId(id);
+        return response;
+    }
+
+    private static NoteResponse note(Long id) {
+        NoteResponse response = new NoteResponse();
+        response.setId(id);
+        return response;
+    }
+}
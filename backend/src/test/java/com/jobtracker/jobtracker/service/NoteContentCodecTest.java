@@ -0,0 +1,64 @@
+package com.jobtracker.jobtracker.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoteContentCodecTest {
+
+    private final NoteContentCodec codec = new NoteContentCodec(true, DataSize.ofKilobytes(1), 6);
+
+    @Test
+    void shouldCompressLargeBodyAndKeepPreviewPrefix() {
+        // Given
+        String content = "Asked about system design and on-call rotations. ".repeat(100);
+
+        // When
+        NoteContentCodec.StoredContent stored = codec.encode(content);
+
+        // Then
+        assertThat(stored.compressed()).isNotNull();
+        assertThat(stored.compressed().length).isLessThan(content.length() / 10);
+        assertThat(stored.content()).isEqualTo(content.substring(0, NoteContentCodec.STORED_PREFIX_LENGTH));
+        assertThat(NoteContentCodec.decode(stored.content(), stored.compressed())).isEqualTo(content);
+    }
+
+    @Test
+    void shouldKeepSmallBodyAsPlainText() {
+        // When
+        NoteContentCodec.StoredContent stored = codec.encode("Follow up on Friday");
+
+        // Then
+        assertThat(stored.compressed()).isNull();
+        assertThat(NoteContentCodec.decode(stored.content(), stored.compressed())).isEqualTo("Follow up on Friday");
+    }
+
+    @Test
+    void shouldKeepPlainTextWhenDisabled() {
+        // Given
+        NoteContentCodec disabled = new NoteContentCodec(false, DataSize.ofKilobytes(1), 6);
+        String content = "x".repeat(10_000);
+
+        // When
+        NoteContentCodec.StoredContent stored = disabled.encode(content);
+
+        // Then
+        assertThat(stored.compressed()).isNull();
+        assertThat(stored.content()).isEqualTo(content);
+    }
+
+    @Test
+    void shouldCutPrefixOnCodePointBoundary() {
+        // Given: Emoji are two UTF-16 units each
+        String content = "😀".repeat(2_000);
+
+        // When
+        NoteContentCodec.StoredContent stored = codec.encode(content);
+
+        // Then
+        assertThat(stored.content().codePointCount(0, stored.content().length()))
+            .isEqualTo(NoteContentCodec.STORED_PREFIX_LENGTH);
+        assertThat(NoteContentCodec.decode(stored.content(), stored.compressed())).isEqualTo(content);
+    }
+}
@@ -0,0 +1,72 @@
+package com.jobtracker.jobtracker.service;
+
+import org.junit.jupiter.api.Test;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NoteDeltaTest {
+
+    @Test
+    void shouldRebuildTargetAfterEditsInSeveralPlaces() {
+        // Given: A long note edited at the start, in the middle and at the end
+        String base = paragraphs(40, new Random(1));
+        String target = "Dear hiring team,\n" + base.substring(0, 2_000) + " (rescheduled to Monday)"
+            + base.substring(2_300, base.length() - 50) + "\nBest regards";
+
+        // When
+        byte[] delta = NoteDelta.diff(base, target);
+
+        // Then
+        assertThat(NoteDelta.apply(base, delta)).isEqualTo(target);
+    }
+
+    @Test
+    void shouldGrowWithTheChangeNotTheNote() {
+        // Given: A 20k character note and a one-word edit
+        String base = paragraphs(80, new Random(2));
+        int middle = base.length() / 2;
+        String target = base.substring(0, middle) + "urgently " + base.substring(middle);
+
+        // When
+        byte[] delta = NoteDelta.diff(base, target);
+
+        // Then
+        assertThat(base.length()).isGreaterThan(20_000);
+        assertThat(delta.length).isLessThan(40);
+        assertThat(NoteDelta.apply(base, delta)).isEqualTo(target);
+    }
+
+    @Test
+    void shouldHandleEmptyShortAndSurrogateContent() {
+        // Given
+        String emoji = "Offer accepted 🎉🎉 ".repeat(50);
+        String[][] cases = {
+            {"", "Brand new note"},
+            {"Something", ""},
+            {"short", "shorter"},
+            {emoji, emoji.replace("accepted", "declined")},
+            {emoji, emoji.substring(1)},
+        };
+
+        for (String[] pair : cases) {
+            // When
+            byte[] delta = NoteDelta.diff(pair[0], pair[1]);
+
+            // Then
+            assertThat(NoteDelta.apply(pair[0], delta)).isEqualTo(pair[1]);
+        }
+    }
+
+    private static String paragraphs(int count, Random random) {
+        String[] words = {"interview", "recruiter", "salary", "team", "system", "design", "follow", "up",
+            "round", "offer", "remote", "stack", "culture", "feedback", "asked", "about", "the", "and"};
+        StringBuilder text = new StringBuilder();
+        for (int p = 0; p < count; p++) {
+            for (int w = 0; w < 40; w++) {
+                text.append(words[random.nextInt(words.length)]).append(w == 39 ? ".\n" : " ");
+            }
+        }
+        return text.toString();
+    }
+}
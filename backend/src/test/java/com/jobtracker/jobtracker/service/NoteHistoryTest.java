@@ -0,0 +1,117 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.exception.NoteRevisionNotFoundException;
+import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.model.NoteRevision;
+import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.NoteRevisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NoteHistoryTest {
+
+    private static final int SNAPSHOT_INTERVAL = 3;
+
+    @Mock
+    private NoteRevisionRepository revisionRepository;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    private NoteHistory history;
+    private final List<NoteRevision> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        history = new NoteHistory(revisionRepository, noteRepository, SNAPSHOT_INTERVAL);
+    }
+
+    @Test
+    void shouldStoreDeltasWithPeriodicSnapshots() {
+        // When: Seven versions replace each other
+        Note note = editSevenTimes();
+
+        // Then: Every third revision is a snapshot, the rest are deltas
+        assertThat(stored).extracting(NoteRevision::getRevision).containsExactly(1, 2, 3, 4, 5, 6);
+        assertThat(stored).extracting(NoteRevision::isSnapshot).containsExactly(false, false, true, false, false, true);
+        assertThat(stored.get(0).getData().length).isLessThan(version(1).length() / 10);
+        assertThat(note.getRevision()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldRebuildRevisionsFromSnapshotOrCurrentContent() {
+        // Given
+        Note note = editSevenTimes();
+
+        // When/Then: Revision 4 rebuilds from the snapshot at 6, revision 1 from the one at 3
+        stubChain(note, 4, 6);
+        assertThat(history.reconstruct(note, 4).content()).isEqualTo(version(4));
+        stubChain(note, 1, 3);
+        assertThat(history.reconstruct(note, 1).content()).isEqualTo(version(1));
+        assertThat(history.reconstruct(note, 7).content()).isEqualTo(version(7));
+    }
+
+    @Test
+    void shouldRebuildFromCurrentContentWhenNoSnapshotLiesAbove() {
+        // Given: Revision 7 is current and 6 was a snapshot; add one more delta (7 -> 8)
+        Note note = editSevenTimes();
+        history.recordReplaced(note.getId(), 7, version(7), version(8), LocalDateTime.now());
+        note.setContent(version(8));
+        note.setRevision(8);
+
+        // When
+        stubChain(note, 7, 7);
+
+        // Then
+        assertThat(history.reconstruct(note, 7).content()).isEqualTo(version(7));
+    }
+
+    @Test
+    void shouldRejectUnknownRevision() {
+        // Given
+        Note note = editSevenTimes();
+
+        // When/Then
+        assertThatThrownBy(() -> history.reconstruct(note, 8)).isInstanceOf(NoteRevisionNotFoundException.class);
+        assertThatThrownBy(() -> history.reconstruct(note, 0)).isInstanceOf(NoteRevisionNotFoundException.class);
+    }
+
+    private Note editSevenTimes() {
+        Note note = new Note();
+        note.setId(1L);
+        when(revisionRepository.save(any())).thenAnswer(invocation -> {
+            stored.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        for (int revision = 1; revision < 7; revision++) {
+            history.recordReplaced(note.getId(), revision, version(revision), version(revision + 1), LocalDateTime.now());
+        }
+        note.setContent(version(7));
+        note.setRevision(7);
+        return note;
+    }
+
+    private void stubChain(Note note, int from, int to) {
+        List<NoteRevision> chain = stored.stream()
+            .filter(row -> row.getRevision() >= from && row.getRevision() <= to)
+            .sorted((a, b) -> b.getRevision() - a.getRevision())
+            .toList();
+        lenient().when(revisionRepository.findReconstructionChain(note.getId(), from)).thenReturn(chain);
+    }
+
+    private static String version(int revision) {
+        return "Cover letter draft. ".repeat(50) + "Revision " + revision + " closing line.";
+    }
+}
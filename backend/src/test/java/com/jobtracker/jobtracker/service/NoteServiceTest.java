@@ -1,20 +1,29 @@
 package com.jobtracker.jobtracker.service;
 
+import com.jobtracker.jobtracker.dto.NotePageResponse;
 import com.jobtracker.jobtracker.dto.NoteRequest;
 import com.jobtracker.jobtracker.dto.NoteResponse;
+import com.jobtracker.jobtracker.event.ApplicationChangedEvent;
 import com.jobtracker.jobtracker.exception.ApplicationNotFoundException;
+import com.jobtracker.jobtracker.exception.InvalidCursorException;
 import com.jobtracker.jobtracker.exception.NoteNotFoundException;
 import com.jobtracker.jobtracker.model.Application;
 import com.jobtracker.jobtracker.model.ApplicationStatus;
 import com.jobtracker.jobtracker.model.Note;
 import com.jobtracker.jobtracker.model.User;
 import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.FieldProjectionRepository;
 import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.NoteRow;
+import com.jobtracker.jobtracker.repository.NoteUpdateRow;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.util.unit.DataSize;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,6 +31,10 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +46,21 @@ class NoteServiceTest {
     @Mock
     private ApplicationRepository applicationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private NoteContentCodec contentCodec = new NoteContentCodec(false, DataSize.ofKilobytes(4), 6);
+
+    @Mock
+    private NoteHistory noteHistory;
+
+    @Mock
+    private ChangeLog changeLog;
+
+    @Mock
+    private FieldProjectionRepository fieldProjectionRepository;
+
     @InjectMocks
     private NoteService noteService;
 
@@ -65,8 +93,10 @@ class NoteServiceTest {
         savedNote.setUpdatedAt(LocalDateTime.now());
 
         // Mock behavior
-        when(applicationRepository.findByIdAndUserEmail(applicationId, userEmail))
-            .thenReturn(Optional.of(app));
+        when(applicationRepository.existsByIdAndUserEmail(applicationId, userEmail))
+            .thenReturn(true);
+        when(applicationRepository.getReferenceById(applicationId))
+            .thenReturn(app);
         when(noteRepository.save(any(Note.class)))
             .thenReturn(savedNote);
 
@@ -76,8 +106,10 @@ class NoteServiceTest {
         // Then
         assertThat(response.getId()).isEqualTo(1L);
         assertThat(response.getContent()).isEqualTo("Great interview!");
-        verify(applicationRepository).findByIdAndUserEmail(applicationId, userEmail);
+        verify(applicationRepository).existsByIdAndUserEmail(applicationId, userEmail);
+        verify(applicationRepository, never()).findByIdAndUserEmail(any(), any());
         verify(noteRepository).save(any(Note.class));
+        verify(eventPublisher).publishEvent(any(ApplicationChangedEvent.class));
     }
 
     @Test
@@ -88,8 +120,8 @@ class NoteServiceTest {
         NoteRequest request = new NoteRequest();
         request.setContent("Note content");
 
-        when(applicationRepository.findByIdAndUserEmail(applicationId, userEmail))
-            .thenReturn(Optional.empty());
+        when(applicationRepository.existsByIdAndUserEmail(applicationId, userEmail))
+            .thenReturn(false);
 
         // When/Then
         assertThatThrownBy(() -> noteService.createNote(applicationId, request, userEmail))
@@ -99,42 +131,63 @@ class NoteServiceTest {
     }
 
     @Test
-    void shouldGetAllNotes() {
-        // Given
+    void shouldReturnFirstPageOfPreviewsWithCursor() {
+        // Given: Three notes, one longer than the preview, and a page size of two
         Long applicationId = 1L;
         String userEmail = "user@example.com";
+        LocalDateTime now = LocalDateTime.now();
+        String longContent = "x".repeat(NoteService.NOTE_PREVIEW_LENGTH + 1);
 
-        User user = new User();
-        user.setEmail(userEmail);
-
-        Application app = new Application();
-        app.setId(applicationId);
-        app.setUser(user);
+        when(applicationRepository.existsByIdAndUserEmail(applicationId, userEmail))
+            .thenReturn(true);
+        when(noteRepository.findPreviewsByApplicationId(eq(applicationId), eq(NoteService.NOTE_PREVIEW_LENGTH + 1), any()))
+            .thenReturn(List.of(
+                noteRow(3L, longContent, now),
+                noteRow(2L, "Short note", now.minusMinutes(1)),
+                noteRow(1L, "Oldest note", now.minusMinutes(2))));
 
-        Note note1 = new Note();
-        note1.setId(1L);
-        note1.setContent("First note");
-        note1.setCreatedAt(LocalDateTime.now());
-        note1.setUpdatedAt(LocalDateTime.now());
+        // When
+        NotePageResponse<NoteResponse> page = noteService.getNotes(applicationId, null, 2, userEmail);
+
+        // Then: Two previews, the long one cut and flagged, and a cursor after the second
+        assertThat(page.getNotes()).extracting(NoteResponse::getId).containsExactly(3L, 2L);
+        assertThat(page.getNotes().get(0).getContent()).hasSize(NoteService.NOTE_PREVIEW_LENGTH);
+        assertThat(page.getNotes().get(0).getTruncated()).isTrue();
+        assertThat(page.getNotes().get(1).getTruncated()).isFalse();
+        assertThat(NoteCursor.decode(page.getNextCursor())).isEqualTo(new NoteCursor(now.minusMinutes(1), 2L));
+    }
 
-        Note note2 = new Note();
-        note2.setId(2L);
-        note2.setContent("Second note");
-        note2.setCreatedAt(LocalDateTime.now());
-        note2.setUpdatedAt(LocalDateTime.now());
+    @Test
+    void shouldContinueAfterCursorAndEndWithoutNextCursor() {
+        // Given: A cursor pointing at a previously returned note
+        Long applicationId = 1L;
+        String userEmail = "user@example.com";
+        LocalDateTime createdAt = LocalDateTime.now();
+        String cursor = new NoteCursor(createdAt, 5L).encode();
 
-        when(applicationRepository.findByIdAndUserEmail(applicationId, userEmail))
-            .thenReturn(Optional.of(app));
-        when(noteRepository.findByApplicationIdAndApplicationUserEmail(applicationId, userEmail))
-            .thenReturn(List.of(note1, note2));
+        when(applicationRepository.existsByIdAndUserEmail(applicationId, userEmail))
+            .thenReturn(true);
+        when(noteRepository.findPreviewsByApplicationIdBefore(eq(applicationId), eq(createdAt), eq(5L), anyInt(), any()))
+            .thenReturn(List.of(noteRow(4L, "Last note", createdAt.minusDays(1))));
 
         // When
-        List<NoteResponse> notes = noteService.getAllNotes(applicationId, userEmail);
+        NotePageResponse<NoteResponse> page = noteService.getNotes(applicationId, cursor, 20, userEmail);
 
         // Then
-        assertThat(notes).hasSize(2);
-        assertThat(notes.get(0).getContent()).isEqualTo("First note");
-        assertThat(notes.get(1).getContent()).isEqualTo("Second note");
+        assertThat(page.getNotes()).extracting(NoteResponse::getId).containsExactly(4L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // Given
+        when(applicationRepository.existsByIdAndUserEmail(1L, "user@example.com"))
+            .thenReturn(true);
+
+        // When/Then
+        assertThatThrownBy(() -> noteService.getNotes(1L, "not-a-cursor", 20, "user@example.com"))
+            .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(noteRepository);
     }
 
     @Test
@@ -144,27 +197,68 @@ class NoteServiceTest {
         Long noteId = 1L;
         String userEmail = "user@example.com";
 
-        User user = new User();
-        user.setEmail(userEmail);
+        when(noteRepository.deleteOwnedNote(noteId, applicationId, userEmail))
+            .thenReturn(1);
 
-        Application app = new Application();
-        app.setId(applicationId);
-        app.setUser(user);
+        // When
+        noteService.deleteNote(applicationId, noteId, userEmail);
+
+        // Then
+        verify(noteRepository).deleteOwnedNote(noteId, applicationId, userEmail);
+        verify(changeLog).noteDeleted(userEmail, applicationId, noteId);
+        verify(applicationRepository, never()).existsByIdAndUserEmail(any(), any());
+        verify(eventPublisher).publishEvent(any(ApplicationChangedEvent.class));
+    }
+
+    @Test
+    void shouldUpdateNoteWithSingleStatement() {
+        // Given
+        Long applicationId = 1L;
+        Long noteId = 1L;
+        String userEmail = "user@example.com";
 
-        Note note = new Note();
-        note.setId(noteId);
-        note.setApplication(app);
+        NoteRequest request = new NoteRequest();
+        request.setContent("Updated content");
+
+        NoteUpdateRow updatedNote = mock(NoteUpdateRow.class);
+        when(updatedNote.getContent()).thenReturn("Updated content");
+        when(updatedNote.getRevision()).thenReturn(2);
+        when(updatedNote.getPreviousContent()).thenReturn("Original content");
 
-        when(applicationRepository.findByIdAndUserEmail(applicationId, userEmail))
-            .thenReturn(Optional.of(app));
-        when(noteRepository.findByIdAndApplicationUserEmail(noteId, userEmail))
-            .thenReturn(Optional.of(note));
+        when(noteRepository.updateOwnedNote(eq(noteId), eq(applicationId), eq(userEmail), eq("Updated content"), isNull(), any()))
+            .thenReturn(Optional.of(updatedNote));
 
         // When
-        noteService.deleteNote(applicationId, noteId, userEmail);
+        NoteResponse response = noteService.updateNote(applicationId, noteId, request, userEmail);
 
         // Then
-        verify(noteRepository).delete(note);
+        assertThat(response.getContent()).isEqualTo("Updated content");
+        verify(noteHistory).recordReplaced(eq(noteId), eq(1), eq("Original content"), eq("Updated content"), any());
+        verify(applicationRepository, never()).existsByIdAndUserEmail(any(), any());
+        verify(noteRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldStoreLargeNoteCompressedAndReturnFullContent() {
+        // Given: Compression enabled for bodies of 1 KB and more
+        NoteService compressingService = new NoteService(noteRepository, applicationRepository, eventPublisher,
+            new NoteContentCodec(true, DataSize.ofKilobytes(1), 6), noteHistory, changeLog, fieldProjectionRepository);
+        String content = "Round two went well. ".repeat(200);
+        NoteRequest request = new NoteRequest();
+        request.setContent(content);
+
+        NoteUpdateRow storedRow = mock(NoteUpdateRow.class);
+        when(storedRow.getRevision()).thenReturn(2);
+        when(noteRepository.updateOwnedNote(eq(2L), eq(1L), eq("user@example.com"),
+                argThat(prefix -> prefix.length() == NoteContentCodec.STORED_PREFIX_LENGTH),
+                argThat(compressed -> compressed.length < content.length() / 10), any()))
+            .thenReturn(Optional.of(storedRow));
+
+        // When
+        NoteResponse response = compressingService.updateNote(1L, 2L, request, "user@example.com");
+
+        // Then: The stored row only holds the prefix, the response holds the full body
+        assertThat(response.getContent()).isEqualTo(content);
     }
 
     @Test
@@ -174,25 +268,47 @@ class NoteServiceTest {
         Long noteId = 999L;
         String userEmail = "user@example.com";
 
-        User user = new User();
-        user.setEmail(userEmail);
-
-        Application app = new Application();
-        app.setId(applicationId);
-        app.setUser(user);
-
         NoteRequest request = new NoteRequest();
         request.setContent("Updated content");
 
-        when(applicationRepository.findByIdAndUserEmail(applicationId, userEmail))
-            .thenReturn(Optional.of(app));
-        when(noteRepository.findByIdAndApplicationUserEmail(noteId, userEmail))
+        when(noteRepository.updateOwnedNote(eq(noteId), eq(applicationId), eq(userEmail), eq("Updated content"), isNull(), any()))
             .thenReturn(Optional.empty());
+        when(applicationRepository.existsByIdAndUserEmail(applicationId, userEmail))
+            .thenReturn(true);
 
         // When/Then
         assertThatThrownBy(() -> noteService.updateNote(applicationId, noteId, request, userEmail))
             .isInstanceOf(NoteNotFoundException.class);
         
-        verify(noteRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldThrowApplicationNotFoundWhenDeletingFromForeignApplication() {
+        // Given
+        Long applicationId = 1L;
+        Long noteId = 1L;
+        String userEmail = "hacker@example.com";
+
+        when(noteRepository.deleteOwnedNote(noteId, applicationId, userEmail))
+            .thenReturn(0);
+        when(applicationRepository.existsByIdAndUserEmail(applicationId, userEmail))
+            .thenReturn(false);
+
+        // When/Then
+        assertThatThrownBy(() -> noteService.deleteNote(applicationId, noteId, userEmail))
+            .isInstanceOf(ApplicationNotFoundException.class);
+
+        verify(eventPublisher, never()).publishEvent(any());
+        verifyNoInteractions(changeLog);
+    }
+
+    private static NoteRow noteRow(Long id, String content, LocalDateTime createdAt) {
+        return new NoteRow() {
+            public Long getId() { return id; }
+            public String getContent() { return content; }
+            public LocalDateTime getCreatedAt() { return createdAt; }
+            public LocalDateTime getUpdatedAt() { return createdAt; }
+        };
     }
 }
@@ -0,0 +1,112 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import tools.jackson.databind.json.JsonMapper;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void shouldFillThePoolAndRunEveryRound() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(jwtService.generateToken(StartupWarmup.EMAIL)).thenReturn("token");
+        StartupWarmup warmup = warmup(3, 20, Duration.ofSeconds(10));
+
+        // When
+        warmup.run(null);
+
+        // Then
+        verify(dataSource, times(3)).getConnection();
+        verify(connection, times(3)).close();
+        verify(passwordEncoder).encode(anyString());
+        verify(jwtService, times(20)).isTokenValid("token", StartupWarmup.EMAIL);
+        verify(userRepository, times(20)).findByEmail(StartupWarmup.EMAIL);
+        verify(applicationRepository, never()).save(any());
+        assertThat(meterRegistry.get("startup.warmup").tag("outcome", "completed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("startup.warmup.rounds").counter().count()).isEqualTo(20.0);
+        assertThat(meterRegistry.get("startup.warmup.connections").gauge().value()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("startup.warmup.round").tag("round", "last").timeGauge()
+                .value(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    void shouldStopAtTheBudget() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(userRepository.findByEmail(StartupWarmup.EMAIL)).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return Optional.empty();
+        });
+        StartupWarmup warmup = warmup(1, 1_000, Duration.ofMillis(200));
+
+        // When
+        long start = System.nanoTime();
+        warmup.run(null);
+
+        // Then
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(meterRegistry.get("startup.warmup").tag("outcome", "budget_exceeded").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("startup.warmup.rounds").counter().count()).isLessThan(1_000.0);
+    }
+
+    @Test
+    void shouldNotFailStartupWhenAStepFails() throws Exception {
+        // Given
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(userRepository.findByEmail(StartupWarmup.EMAIL)).thenThrow(new IllegalStateException("database down"));
+        StartupWarmup warmup = warmup(1, 20, Duration.ofSeconds(10));
+
+        // When
+        warmup.run(null);
+
+        // Then
+        assertThat(meterRegistry.get("startup.warmup").tag("outcome", "failed").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("startup.warmup.rounds").counter().count()).isZero();
+    }
+
+    private StartupWarmup warmup(int poolSize, int rounds, Duration budget) {
+        return new StartupWarmup(jwtService, passwordEncoder, userRepository, applicationRepository,
+                noteRepository, JsonMapper.builder().build(), dataSource, meterRegistry, poolSize, rounds, budget);
+    }
+}
@@ -0,0 +1,160 @@
+package com.jobtracker.jobtracker.service;
+
+import com.jobtracker.jobtracker.dto.ApplicationResponse;
+import com.jobtracker.jobtracker.dto.NoteResponse;
+import com.jobtracker.jobtracker.dto.SyncResponse;
+import com.jobtracker.jobtracker.model.Application;
+import com.jobtracker.jobtracker.model.Note;
+import com.jobtracker.jobtracker.model.SyncChange;
+import com.jobtracker.jobtracker.model.SyncEntityType;
+import com.jobtracker.jobtracker.model.User;
+import com.jobtracker.jobtracker.repository.ApplicationRepository;
+import com.jobtracker.jobtracker.repository.NoteRepository;
+import com.jobtracker.jobtracker.repository.SyncChangeRepository;
+import com.jobtracker.jobtracker.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import java.util.List;
+import java.util.Optional;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final Long USER_ID = 7L;
+
+    @Mock
+    private SyncChangeRepository syncChangeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private NoteRepository noteRepository;
+
+    @InjectMocks
+    private SyncService syncService;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(USER_ID);
+        user.setEmail(EMAIL);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void shouldReturnFullSnapshotWithoutCursor() {
+        // Given
+        Application app = application(1L);
+        when(syncChangeRepository.findLastSequence(USER_ID)).thenReturn(Optional.of(12L));
+        when(applicationRepository.findByUserEmail(EMAIL)).thenReturn(List.of(app));
+        when(noteRepository.findByApplicationUserEmail(EMAIL)).thenReturn(List.of(note(5L, app)));
+
+        // When
+        SyncResponse response = syncService.getChanges(null, 500, EMAIL);
+
+        // Then
+        assertThat(response.isFull()).isTrue();
+        assertThat(response.getCursor()).isEqualTo(12L);
+        assertThat(response.getApplications()).extracting(ApplicationResponse::getId).containsExactly(1L);
+        assertThat(response.getNotes()).extracting(NoteResponse::getApplicationId).containsExactly(1L);
+        verify(syncChangeRepository, never()).findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(any(), anyLong(), any());
+    }
+
+    @Test
+    void shouldReturnChangesAndTombstonesAfterCursor() {
+        // Given: Application 1 changed, note 20 deleted, note 21 changed and then removed with its application
+        Application app = application(1L);
+        when(syncChangeRepository.findLastSequence(USER_ID)).thenReturn(Optional.of(7L));
+        when(syncChangeRepository.findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(USER_ID, 4L, Limit.of(501)))
+            .thenReturn(List.of(
+                change(SyncEntityType.APPLICATION, 1L, 5L, false),
+                change(SyncEntityType.NOTE, 20L, 6L, true),
+                change(SyncEntityType.NOTE, 21L, 7L, false)));
+        when(applicationRepository.findAllById(List.of(1L))).thenReturn(List.of(app));
+        when(noteRepository.findAllById(List.of(21L))).thenReturn(List.of());
+
+        // When
+        SyncResponse response = syncService.getChanges(4L, 500, EMAIL);
+
+        // Then
+        assertThat(response.isFull()).isFalse();
+        assertThat(response.isHasMore()).isFalse();
+        assertThat(response.getCursor()).isEqualTo(7L);
+        assertThat(response.getApplications()).extracting(ApplicationResponse::getId).containsExactly(1L);
+        assertThat(response.getNotes()).isEmpty();
+        assertThat(response.getDeletedNoteIds()).containsExactly(20L, 21L);
+        verify(applicationRepository, never()).findByUserEmail(any());
+    }
+
+    @Test
+    void shouldPageThroughChangesBySequence() {
+        // Given
+        when(syncChangeRepository.findLastSequence(USER_ID)).thenReturn(Optional.of(9L));
+        when(syncChangeRepository.findByUserIdAndSequenceGreaterThanOrderBySequenceAsc(USER_ID, 1L, Limit.of(3)))
+            .thenReturn(List.of(
+                change(SyncEntityType.APPLICATION, 1L, 2L, true),
+                change(SyncEntityType.APPLICATION, 2L, 4L, true),
+                change(SyncEntityType.APPLICATION, 3L, 9L, true)));
+
+        // When
+        SyncResponse response = syncService.getChanges(1L, 2, EMAIL);
+
+        // Then
+        assertThat(response.isHasMore()).isTrue();
+        assertThat(response.getCursor()).isEqualTo(4L);
+        assertThat(response.getDeletedApplicationIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldFallBackToSnapshotWhenCursorIsAheadOfFeed() {
+        // Given
+        when(syncChangeRepository.findLastSequence(USER_ID)).thenReturn(Optional.empty());
+        when(applicationRepository.findByUserEmail(EMAIL)).thenReturn(List.of());
+        when(noteRepository.findByApplicationUserEmail(EMAIL)).thenReturn(List.of());
+
+        // When
+        SyncResponse response = syncService.getChanges(40L, 500, EMAIL);
+
+        // Then
+        assertThat(response.isFull()).isTrue();
+        assertThat(response.getCursor()).isZero();
+    }
+
+    // -- Helpers -------------------------------------------------------
+
+    private static SyncChange change(SyncEntityType type, Long entityId, long sequence, boolean deleted) {
+        SyncChange change = new SyncChange();
+        change.setEntityType(type);
+        change.setEntityId(entityId);
+        change.setSequence(sequence);
+        change.setDeleted(deleted);
+        return change;
+    }
+
+    private static Application application(Long id) {
+        Application app = new Application();
+        app.setId(id);
+        return app;
+    }
+
+    private static Note note(Long id, Application app) {
+        Note note = new Note();
+        note.setId(id);
+        note.setApplication(app);
+        note.setContent("Phone screen booked");
+        return note;
+    }
+}
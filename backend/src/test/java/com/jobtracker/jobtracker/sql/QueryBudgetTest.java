@@ -0,0 +1,112 @@
+package com.jobtracker.jobtracker.sql;
+
+import com.jobtracker.jobtracker.controller.ApplicationController;
+import com.jobtracker.jobtracker.controller.BatchController;
+import com.jobtracker.jobtracker.controller.NoteController;
+import com.jobtracker.jobtracker.diagnostics.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RestController;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static com.jobtracker.jobtracker.sql.StatementCounts.AUTHENTICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.BATCH_CHANGE_LOG;
+import static com.jobtracker.jobtracker.sql.StatementCounts.BATCH_USER_LOOKUP;
+import static com.jobtracker.jobtracker.sql.StatementCounts.CREATE_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.CREATE_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.DELETE_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.DELETE_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_ALL_APPLICATIONS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_ALL_APPLICATIONS_WITH_NOTE_SUMMARY;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_ALL_APPLICATION_FIELDS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_APPLICATION_FIELDS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_APPLICATION_WITH_NOTES;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_NOTES;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_NOTE_FIELDS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_REVISION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_REVISIONS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.UPDATE_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.UPDATE_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.WRITE_ALL_APPLICATIONS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Ties each endpoint's {@link QueryBudget} to the statement counts that
+ * {@link ServiceStatementTest} pins for the service methods it calls, plus
+ * the authentication lookup. A budget left behind when a count changes, or
+ * a budgeted endpoint missing from the table, fails here without a database.
+ */
+class QueryBudgetTest {
+
+    private static final String CONTROLLERS = "com.jobtracker.jobtracker.controller";
+
+    @Test
+    void shouldBudgetEachEndpointForItsServiceStatementsAndAuthentication() throws Exception {
+        // Given: The statements each endpoint runs, its most expensive branch where it has several
+        Map<String, Budget> expected = Map.ofEntries(
+                endpoint(ApplicationController.class, "getAll",
+                        Math.max(GET_ALL_APPLICATIONS, GET_ALL_APPLICATIONS_WITH_NOTE_SUMMARY)),
+                endpoint(ApplicationController.class, "getAllFields", GET_ALL_APPLICATION_FIELDS),
+                endpoint(ApplicationController.class, "getAllStreamed", WRITE_ALL_APPLICATIONS),
+                endpoint(ApplicationController.class, "getById", Math.max(GET_APPLICATION, GET_APPLICATION_WITH_NOTES)),
+                endpoint(ApplicationController.class, "getByIdFields", GET_APPLICATION_FIELDS),
+                endpoint(ApplicationController.class, "create", CREATE_APPLICATION),
+                endpoint(ApplicationController.class, "update", UPDATE_APPLICATION),
+                endpoint(ApplicationController.class, "delete", DELETE_APPLICATION),
+                endpoint(NoteController.class, "getAll", GET_NOTES),
+                endpoint(NoteController.class, "getAllFields", GET_NOTE_FIELDS),
+                endpoint(NoteController.class, "getById", GET_NOTE),
+                endpoint(NoteController.class, "getRevisions", GET_REVISIONS),
+                endpoint(NoteController.class, "getRevision", GET_REVISION),
+                endpoint(NoteController.class, "create", CREATE_NOTE),
+                endpoint(NoteController.class, "update", UPDATE_NOTE),
+                endpoint(NoteController.class, "delete", DELETE_NOTE),
+                // An independent batch runs each operation as the single-item endpoint does, feed entry included
+                Map.entry("BatchController.execute", new Budget(AUTHENTICATION + BATCH_USER_LOOKUP + BATCH_CHANGE_LOG,
+                        IntStream.of(CREATE_APPLICATION, UPDATE_APPLICATION, DELETE_APPLICATION,
+                                CREATE_NOTE, UPDATE_NOTE, DELETE_NOTE).max().orElseThrow())));
+
+        // When
+        Map<String, Budget> budgets = budgetedEndpoints();
+
+        // Then
+        assertThat(budgets).containsExactlyInAnyOrderEntriesOf(expected);
+    }
+
+    private static Map.Entry<String, Budget> endpoint(Class<?> controller, String method, int serviceStatements) {
+        return Map.entry(controller.getSimpleName() + "." + method, new Budget(serviceStatements + AUTHENTICATION, 0));
+    }
+
+    private static Map<String, Budget> budgetedEndpoints() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+        Map<String, Budget> budgets = new TreeMap<>();
+        for (BeanDefinition controller : scanner.findCandidateComponents(CONTROLLERS)) {
+            Class<?> type = ClassUtils.forName(controller.getBeanClassName(), QueryBudgetTest.class.getClassLoader());
+            Arrays.stream(type.getDeclaredMethods())
+                    .filter(method -> method.isAnnotationPresent(QueryBudget.class))
+                    .forEach(method -> budgets.put(name(type, method), Budget.of(method.getAnnotation(QueryBudget.class))));
+        }
+        return budgets;
+    }
+
+    private static String name(Class<?> controller, Method method) {
+        return controller.getSimpleName() + "." + method.getName();
+    }
+
+    private record Budget(int value, int perItem) {
+
+        static Budget of(QueryBudget budget) {
+            return new Budget(budget.value(), budget.perItem());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.jobtracker.jobtracker.sql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The plan Postgres picks for a recorded statement, from
+ * {@code EXPLAIN (FORMAT JSON)} with the statement's own parameters. The
+ * statement is planned, not run again, so writes are safe to explain.
+ */
+public record QueryPlan(RecordedStatement statement, List<Node> nodes) {
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+
+    /**
+     * One plan node; {@code relation} and {@code index} are null for nodes
+     * that do not read a table.
+     */
+    public record Node(String type, String relation, String index) {
+
+        @Override
+        public String toString() {
+            return type + (relation != null ? " on " + relation : "") + (index != null ? " using " + index : "");
+        }
+    }
+
+    public static QueryPlan explain(JdbcTemplate jdbcTemplate, RecordedStatement statement) {
+        String json = jdbcTemplate.query("EXPLAIN (FORMAT JSON) " + statement.sql(), statement::bind,
+                rs -> rs.next() ? rs.getString(1) : null);
+        List<Node> nodes = new ArrayList<>();
+        collect(JSON.readTree(json).get(0).get("Plan"), nodes);
+        return new QueryPlan(statement, nodes);
+    }
+
+    private static void collect(JsonNode plan, List<Node> nodes) {
+        nodes.add(new Node(plan.get("Node Type").asString(),
+                plan.has("Relation Name") ? plan.get("Relation Name").asString() : null,
+                plan.has("Index Name") ? plan.get("Index Name").asString() : null));
+        if (plan.has("Plans")) {
+            plan.get("Plans").forEach(child -> collect(child, nodes));
+        }
+    }
+
+    /**
+     * Tables read front to back instead of through an index.
+     */
+    public List<String> sequentialScans() {
+        return nodes.stream()
+                .filter(node -> node.type().equals("Seq Scan"))
+                .map(Node::relation)
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return statement + "\n  " + nodes.stream().map(Node::toString).collect(Collectors.joining("\n  "));
+    }
+}
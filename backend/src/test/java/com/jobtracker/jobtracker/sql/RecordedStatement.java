@@ -0,0 +1,28 @@
+package com.jobtracker.jobtracker.sql;
+
+import com.jobtracker.jobtracker.diagnostics.StatementMonitor.NullParameter;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * One executed statement with the bind parameters of its (last) execution,
+ * enough to run it again under {@code EXPLAIN}.
+ */
+public record RecordedStatement(String sql, List<Object> parameters) {
+
+    void bind(PreparedStatement statement) throws SQLException {
+        for (int i = 0; i < parameters.size(); i++) {
+            if (parameters.get(i) instanceof NullParameter(int sqlType)) {
+                statement.setNull(i + 1, sqlType);
+            } else {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+}
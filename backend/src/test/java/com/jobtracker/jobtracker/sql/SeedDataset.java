@@ -0,0 +1,90 @@
+package com.jobtracker.jobtracker.sql;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+
+/**
+ * Fills the schema with a production-sized spread of users, so the planner
+ * makes the choices it would make in production: on a near-empty table a
+ * sequential scan is the cheapest plan and hides a missing index. Every
+ * user gets the same shape of data; {@link #email(int)} names them. The
+ * output depends only on the sizes, so repeated runs see the same rows.
+ */
+public final class SeedDataset {
+
+    public static final int USERS = 1_000;
+    public static final int APPLICATIONS_PER_USER = 25;
+    public static final int NOTES_PER_APPLICATION = 4;
+
+    private static final String NOTE_TEXT = "Followed up with the recruiter about the next interview round. ".repeat(5);
+
+    private SeedDataset() {
+    }
+
+    public static String email(int user) {
+        return "user" + user + "@example.com";
+    }
+
+    /**
+     * Replaces all data with the dataset and refreshes planner statistics.
+     * Every note is at revision 2, with revision 1 kept as a snapshot.
+     */
+    public static void seed(JdbcTemplate jdbcTemplate) {
+        seed(jdbcTemplate, USERS, APPLICATIONS_PER_USER, NOTES_PER_APPLICATION, "x");
+    }
+
+    /**
+     * Same, at the given size, with every user's password set to
+     * {@code passwordHash} so they can log in.
+     */
+    public static void seed(JdbcTemplate jdbcTemplate, int users, int applicationsPerUser, int notesPerApplication,
+                            String passwordHash) {
+        jdbcTemplate.execute("TRUNCATE users, applications, notes, note_revisions, sync_changes, sync_sequences"
+                + " RESTART IDENTITY CASCADE");
+        jdbcTemplate.update("""
+                INSERT INTO users (email, full_name, password, created_at)
+                SELECT 'user' || g || '@example.com', 'User ' || g, ?, now()
+                FROM generate_series(1, ?) g""", passwordHash, users);
+        jdbcTemplate.update("""
+                INSERT INTO applications (user_id, company_name, position_title, location, status,
+                                          application_date, created_at, updated_at)
+                SELECT u.id, 'Company ' || g, 'Software Engineer', 'Tallinn, Estonia',
+                       (ARRAY['APPLIED', 'INTERVIEWING', 'OFFER', 'REJECTED'])[1 + g % 4],
+                       current_date - g, now() - g * interval '1 day', now() - g * interval '1 day'
+                FROM users u, generate_series(1, ?) g""", applicationsPerUser);
+        jdbcTemplate.update("""
+                INSERT INTO notes (application_id, content, revision, created_at, updated_at)
+                SELECT a.id, ?, 2, now() - g * interval '1 hour', now() - g * interval '1 hour'
+                FROM applications a, generate_series(1, ?) g""", NOTE_TEXT, notesPerApplication);
+        jdbcTemplate.update("""
+                INSERT INTO note_revisions (note_id, revision, data, snapshot, created_at)
+                SELECT n.id, 1, ?, true, n.created_at FROM notes n""", deflate(NOTE_TEXT));
+        jdbcTemplate.update("""
+                INSERT INTO sync_changes (user_id, entity_type, entity_id, application_id, sequence, deleted)
+                SELECT a.user_id, 'APPLICATION', a.id, a.id,
+                       row_number() OVER (PARTITION BY a.user_id ORDER BY a.id), false
+                FROM applications a""");
+        jdbcTemplate.update("""
+                INSERT INTO sync_sequences (user_id, last_sequence)
+                SELECT user_id, max(sequence) FROM sync_changes GROUP BY user_id""");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    private static byte[] deflate(String text) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(text.getBytes(StandardCharsets.UTF_8));
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+}
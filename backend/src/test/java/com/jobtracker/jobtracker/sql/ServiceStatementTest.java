@@ -0,0 +1,364 @@
+package com.jobtracker.jobtracker.sql;
+
+import com.jobtracker.jobtracker.cache.ApplicationCache;
+import com.jobtracker.jobtracker.dto.ApplicationRequest;
+import com.jobtracker.jobtracker.dto.BatchOperation;
+import com.jobtracker.jobtracker.dto.BatchOperationType;
+import com.jobtracker.jobtracker.dto.BatchRequest;
+import com.jobtracker.jobtracker.dto.LoginRequest;
+import com.jobtracker.jobtracker.dto.NoteRequest;
+import com.jobtracker.jobtracker.dto.RegisterRequest;
+import com.jobtracker.jobtracker.model.ApplicationStatus;
+import com.jobtracker.jobtracker.service.ApplicationService;
+import com.jobtracker.jobtracker.service.BatchService;
+import com.jobtracker.jobtracker.service.NoteService;
+import com.jobtracker.jobtracker.service.SyncService;
+import com.jobtracker.jobtracker.service.UserService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import tools.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static com.jobtracker.jobtracker.sql.StatementCounts.BATCH_CHANGE_LOG;
+import static com.jobtracker.jobtracker.sql.StatementCounts.BATCH_CREATE_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.BATCH_CREATE_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.BATCH_USER_LOOKUP;
+import static com.jobtracker.jobtracker.sql.StatementCounts.CREATE_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.CREATE_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.DELETE_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.DELETE_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_ALL_APPLICATIONS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_ALL_APPLICATIONS_FROM_CACHE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_ALL_APPLICATIONS_WITH_NOTE_SUMMARY;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_ALL_APPLICATION_FIELDS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_APPLICATION_FIELDS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_APPLICATION_WITH_NOTES;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_CHANGES;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_NOTES;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_NOTE_FIELDS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_REVISION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.GET_REVISIONS;
+import static com.jobtracker.jobtracker.sql.StatementCounts.LOGIN;
+import static com.jobtracker.jobtracker.sql.StatementCounts.REGISTER;
+import static com.jobtracker.jobtracker.sql.StatementCounts.UPDATE_APPLICATION;
+import static com.jobtracker.jobtracker.sql.StatementCounts.UPDATE_NOTE;
+import static com.jobtracker.jobtracker.sql.StatementCounts.WRITE_ALL_APPLICATIONS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the SQL each service method runs against a production-sized dataset:
+ * the exact number of statements, and that none of them reads a table
+ * sequentially. Adding a query (a lookup in a loop, a lazy association
+ * touched while mapping) or dropping an index a query relies on fails here.
+ * The counts live in {@link StatementCounts}; when one changes on purpose,
+ * {@link QueryBudgetTest} points at the endpoint budget to change with it.
+ */
+@SpringBootTest(properties = {
+        "jwt.secret=test-secret-key-that-is-at-least-256-bits-long",
+        "jwt.expiration=3600000",
+        "cache.invalidation.enabled=false",
+        "warmup.enabled=false"
+})
+@Testcontainers
+@Import(StatementRecorder.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ServiceStatementTest {
+
+    private static final String EMAIL = SeedDataset.email(1);
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15");
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationCache applicationCache;
+
+    @Autowired
+    private ApplicationService applicationService;
+
+    @Autowired
+    private NoteService noteService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private BatchService batchService;
+
+    private Long applicationId;
+    private Long noteId;
+
+    @BeforeAll
+    void seed() {
+        SeedDataset.seed(jdbcTemplate);
+        applicationId = jdbcTemplate.queryForObject(
+                "SELECT min(a.id) FROM applications a JOIN users u ON u.id = a.user_id WHERE u.email = ?",
+                Long.class, EMAIL);
+        noteId = jdbcTemplate.queryForObject(
+                "SELECT min(id) FROM notes WHERE application_id = ?", Long.class, applicationId);
+    }
+
+    @BeforeEach
+    void clearCache() {
+        applicationCache.evictAll();
+    }
+
+    // -- ApplicationService ----------------------------------------------
+
+    @Test
+    void getAllApplications() throws Exception {
+        assertStatements(recorder.capture(() -> applicationService.getAllApplications(EMAIL)), GET_ALL_APPLICATIONS);
+    }
+
+    @Test
+    void getAllApplicationsFromCache() throws Exception {
+        // Given
+        applicationService.getAllApplications(EMAIL);
+
+        // When / Then
+        assertStatements(recorder.capture(() -> applicationService.getAllApplications(EMAIL)),
+                GET_ALL_APPLICATIONS_FROM_CACHE);
+    }
+
+    @Test
+    void getAllApplicationsWithNoteSummary() throws Exception {
+        assertStatements(recorder.capture(() -> applicationService.getAllApplicationsWithNoteSummary(EMAIL)),
+                GET_ALL_APPLICATIONS_WITH_NOTE_SUMMARY);
+    }
+
+    @Test
+    void getApplicationById() throws Exception {
+        assertStatements(recorder.capture(() -> applicationService.getApplicationById(applicationId, EMAIL)),
+                GET_APPLICATION);
+    }
+
+    @Test
+    void getAllApplicationFields() throws Exception {
+        assertStatements(recorder.capture(
+                () -> applicationService.getAllApplications(EMAIL, "id,companyName,status,noteCount")),
+                GET_ALL_APPLICATION_FIELDS);
+    }
+
+    @Test
+    void getApplicationFieldsById() throws Exception {
+        assertStatements(recorder.capture(
+                () -> applicationService.getApplicationById(applicationId, EMAIL, "id,status,latestNotePreview")),
+                GET_APPLICATION_FIELDS);
+    }
+
+    @Test
+    void writeAllApplications() throws Exception {
+        assertStatements(recorder.capture(() -> applicationService.writeAllApplications(
+                EMAIL, applicationService.selectStreamFields(null), new ByteArrayOutputStream())),
+                WRITE_ALL_APPLICATIONS);
+    }
+
+    @Test
+    void getApplicationWithNotes() throws Exception {
+        assertStatements(recorder.capture(() -> applicationService.getApplicationWithNotes(applicationId, EMAIL)),
+                GET_APPLICATION_WITH_NOTES);
+    }
+
+    @Test
+    void createApplication() throws Exception {
+        assertStatements(recorder.capture(() -> applicationService.createApplication(applicationRequest(), EMAIL)),
+                CREATE_APPLICATION);
+    }
+
+    @Test
+    void updateApplication() throws Exception {
+        assertStatements(recorder.capture(
+                () -> applicationService.updateApplication(applicationId, applicationRequest(), EMAIL)),
+                UPDATE_APPLICATION);
+    }
+
+    @Test
+    void deleteApplication() throws Exception {
+        // Given: An application with notes, which go with it
+        Long id = applicationService.createApplication(applicationRequest(), EMAIL).getId();
+        noteService.createNote(id, noteRequest("First"), EMAIL);
+        noteService.createNote(id, noteRequest("Second"), EMAIL);
+
+        // When / Then
+        assertStatements(recorder.capture(() -> applicationService.deleteApplication(id, EMAIL)), DELETE_APPLICATION);
+    }
+
+    // -- NoteService -----------------------------------------------------
+
+    @Test
+    void getNotes() throws Exception {
+        assertStatements(recorder.capture(() -> noteService.getNotes(applicationId, null, 20, EMAIL)), GET_NOTES);
+    }
+
+    @Test
+    void getNoteFields() throws Exception {
+        assertStatements(recorder.capture(
+                () -> noteService.getNotes(applicationId, null, 20, "id,createdAt", EMAIL)), GET_NOTE_FIELDS);
+    }
+
+    @Test
+    void getNote() throws Exception {
+        assertStatements(recorder.capture(() -> noteService.getNote(applicationId, noteId, EMAIL)), GET_NOTE);
+    }
+
+    @Test
+    void getRevisions() throws Exception {
+        assertStatements(recorder.capture(() -> noteService.getRevisions(applicationId, noteId, EMAIL)), GET_REVISIONS);
+    }
+
+    @Test
+    void getRevision() throws Exception {
+        assertStatements(recorder.capture(() -> noteService.getRevision(applicationId, noteId, 1, EMAIL)),
+                GET_REVISION);
+    }
+
+    @Test
+    void createNote() throws Exception {
+        assertStatements(recorder.capture(
+                () -> noteService.createNote(applicationId, noteRequest("Called back"), EMAIL)), CREATE_NOTE);
+    }
+
+    @Test
+    void updateNote() throws Exception {
+        // Given
+        Long id = noteService.createNote(applicationId, noteRequest("Draft"), EMAIL).getId();
+
+        // When / Then
+        assertStatements(recorder.capture(
+                () -> noteService.updateNote(applicationId, id, noteRequest("Final"), EMAIL)), UPDATE_NOTE);
+    }
+
+    @Test
+    void deleteNote() throws Exception {
+        // Given
+        Long id = noteService.createNote(applicationId, noteRequest("Obsolete"), EMAIL).getId();
+
+        // When / Then
+        assertStatements(recorder.capture(() -> noteService.deleteNote(applicationId, id, EMAIL)), DELETE_NOTE);
+    }
+
+    // -- SyncService -----------------------------------------------------
+
+    @Test
+    void getFullSnapshot() throws Exception {
+        assertStatements(recorder.capture(() -> syncService.getChanges(null, 100, EMAIL)), GET_CHANGES);
+    }
+
+    @Test
+    void getChangesSince() throws Exception {
+        // Given: A cursor a few changes behind the feed
+        long cursor = syncService.getChanges(null, 100, EMAIL).getCursor() - 5;
+
+        // When / Then
+        assertStatements(recorder.capture(() -> syncService.getChanges(cursor, 100, EMAIL)), GET_CHANGES);
+    }
+
+    // -- UserService -----------------------------------------------------
+
+    @Test
+    void registerAndLogin() throws Exception {
+        // Given
+        RegisterRequest register = new RegisterRequest();
+        register.setEmail("new-user@example.com");
+        register.setPassword("password123");
+        register.setFullName("New User");
+        LoginRequest login = new LoginRequest();
+        login.setEmail(register.getEmail());
+        login.setPassword(register.getPassword());
+
+        // When / Then
+        assertStatements(recorder.capture(() -> userService.registerUser(register)), REGISTER);
+        assertStatements(recorder.capture(() -> userService.loginUser(login)), LOGIN);
+    }
+
+    // -- BatchService ----------------------------------------------------
+
+    @Test
+    void executeBatchOfCreates() throws Exception {
+        // Given: Ten applications, each with a note
+        BatchRequest request = new BatchRequest();
+        request.setOperations(IntStream.range(0, 10).boxed().flatMap(i -> {
+            BatchOperation application = operation(BatchOperationType.CREATE_APPLICATION, applicationRequest());
+            application.setTempId("app-" + i);
+            BatchOperation note = operation(BatchOperationType.CREATE_NOTE, noteRequest("Note " + i));
+            note.setApplicationRef("app-" + i);
+            return List.of(application, note).stream();
+        }).toList());
+
+        long lastSequence = jdbcTemplate.queryForObject(
+                "SELECT coalesce(max(c.sequence), 0) FROM sync_changes c JOIN users u ON u.id = c.user_id WHERE u.email = ?",
+                Long.class, EMAIL);
+
+        // When / Then: One user lookup, a fixed number of statements per operation, one change feed write
+        assertStatements(recorder.capture(() -> batchService.execute(request, EMAIL)),
+                BATCH_USER_LOOKUP + 10 * BATCH_CREATE_APPLICATION + 10 * BATCH_CREATE_NOTE + BATCH_CHANGE_LOG);
+
+        // And: Every operation has its feed entry, numbered on from the last one
+        List<Long> sequences = jdbcTemplate.queryForList(
+                "SELECT c.sequence FROM sync_changes c JOIN users u ON u.id = c.user_id"
+                        + " WHERE u.email = ? AND c.sequence > ? ORDER BY c.sequence",
+                Long.class, EMAIL, lastSequence);
+        assertThat(sequences).containsExactlyElementsOf(
+                LongStream.rangeClosed(lastSequence + 1, lastSequence + 20).boxed().toList());
+    }
+
+    // -- Helpers ---------------------------------------------------------
+
+    private void assertStatements(List<RecordedStatement> statements, int expected) {
+        assertThat(statements).as("SQL statements").hasSize(expected);
+        for (RecordedStatement statement : statements) {
+            QueryPlan plan = QueryPlan.explain(jdbcTemplate, statement);
+            assertThat(plan.sequentialScans()).as("sequential scans in\n%s", plan).isEmpty();
+        }
+    }
+
+    private static ApplicationRequest applicationRequest() {
+        ApplicationRequest request = new ApplicationRequest();
+        request.setCompanyName("Acme");
+        request.setPositionTitle("Backend Engineer");
+        request.setStatus(ApplicationStatus.APPLIED);
+        request.setApplicationDate(LocalDate.now());
+        return request;
+    }
+
+    private static NoteRequest noteRequest(String content) {
+        NoteRequest request = new NoteRequest();
+        request.setContent(content);
+        return request;
+    }
+
+    private BatchOperation operation(BatchOperationType type, Object body) {
+        BatchOperation operation = new BatchOperation();
+        operation.setOp(type);
+        operation.setBody(objectMapper.valueToTree(body));
+        return operation;
+    }
+}
@@ -0,0 +1,57 @@
+package com.jobtracker.jobtracker.sql;
+
+/**
+ * The number of SQL statements each service method runs, pinned by
+ * {@link ServiceStatementTest} and turned into endpoint budgets by
+ * {@link QueryBudgetTest}. A request runs its service method's statements
+ * plus {@link #AUTHENTICATION}.
+ */
+final class StatementCounts {
+
+    /** The user lookup of the JWT filter, ahead of every authenticated request. */
+    static final int AUTHENTICATION = 1;
+
+    // -- ApplicationService ----------------------------------------------
+
+    static final int GET_ALL_APPLICATIONS = 1;
+    static final int GET_ALL_APPLICATIONS_FROM_CACHE = 0;
+    static final int GET_ALL_APPLICATIONS_WITH_NOTE_SUMMARY = 1;
+    static final int GET_APPLICATION = 1;
+    static final int GET_ALL_APPLICATION_FIELDS = 1;
+    static final int GET_APPLICATION_FIELDS = 1;
+    static final int WRITE_ALL_APPLICATIONS = 1;
+    static final int GET_APPLICATION_WITH_NOTES = 1;
+    static final int CREATE_APPLICATION = 3;
+    static final int UPDATE_APPLICATION = 3;
+    static final int DELETE_APPLICATION = 3;
+
+    // -- NoteService -----------------------------------------------------
+
+    static final int GET_NOTES = 2;
+    static final int GET_NOTE_FIELDS = 2;
+    static final int GET_NOTE = 1;
+    static final int GET_REVISIONS = 2;
+    static final int GET_REVISION = 2;
+    static final int CREATE_NOTE = 3;
+    static final int UPDATE_NOTE = 3;
+    static final int DELETE_NOTE = 2;
+
+    // -- SyncService -----------------------------------------------------
+
+    static final int GET_CHANGES = 4;
+
+    // -- UserService -----------------------------------------------------
+
+    static final int REGISTER = 2;
+    static final int LOGIN = 1;
+
+    // -- BatchService ----------------------------------------------------
+
+    static final int BATCH_USER_LOOKUP = 1;
+    /** Taking the sequences and writing the feed rows of an atomic batch. */
+    static final int BATCH_CHANGE_LOG = 2;
+    static final int BATCH_CREATE_APPLICATION = 1;
+    static final int BATCH_CREATE_NOTE = 2;
+
+    private StatementCounts() {}
+}
@@ -0,0 +1,53 @@
+package com.jobtracker.jobtracker.sql;
+
+import com.jobtracker.jobtracker.diagnostics.StatementMonitor;
+import org.springframework.beans.factory.DisposableBean;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL statements that run on the calling thread while
+ * {@link #capture} runs an action, with their bind parameters. Import it
+ * into a Spring Boot test: it listens to the application's
+ * {@link StatementMonitor}, so every statement is seen whether it comes
+ * from Hibernate, a native query or a {@code JdbcTemplate}.
+ */
+public class StatementRecorder implements StatementMonitor.StatementListener, DisposableBean {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private final StatementMonitor statementMonitor;
+    private final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    public StatementRecorder(StatementMonitor statementMonitor) {
+        this.statementMonitor = statementMonitor;
+        statementMonitor.addListener(this);
+    }
+
+    public List<RecordedStatement> capture(Action action) throws Exception {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            recording.remove();
+        }
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public void executed(String sql, List<Object> parameters) {
+        List<RecordedStatement> statements = recording.get();
+        if (statements != null) {
+            statements.add(new RecordedStatement(sql, parameters));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        statementMonitor.removeListener(this);
+    }
+}
@@ -2,15 +2,16 @@ import api from './auth'
 import type { ApplicationRequest, ApplicationResponse } from '@/types/application'
 
 export const applicationsApi = {
-  // Get all applications for the logged-in user
+  // Get all applications for the logged-in user, with note counts and latest note previews
   getAll: async (): Promise<ApplicationResponse[]> => {
-    const response = await api.get('/applications')
+    const response = await api.get('/applications', { params: { include: 'noteSummary' } })
     return response.data
   },
 
-  // Get a single application by ID
-  getById: async (id: number): Promise<ApplicationResponse> => {
-    const response = await api.get(`/applications/${id}`)
+  // Get a single application by ID, optionally with its notes embedded
+  getById: async (id: number, options?: { includeNotes?: boolean }): Promise<ApplicationResponse> => {
+    const params = options?.includeNotes ? { include: 'notes' } : undefined
+    const response = await api.get(`/applications/${id}`, { params })
     return response.data
   },
 
@@ -1,10 +1,10 @@
 import api from './auth'
-import type { NoteRequest, NoteResponse } from '@/types/note'
+import type { NotePageResponse, NoteRequest, NoteResponse } from '@/types/note'
 
 export const notesApi = {
-  // Get all notes for a specific application
-  getByApplicationId: async (applicationId: number): Promise<NoteResponse[]> => {
-    const response = await api.get(`/applications/${applicationId}/notes`)
+  // Get one page of note previews for a specific application, newest first
+  getByApplicationId: async (applicationId: number, cursor?: string): Promise<NotePageResponse> => {
+    const response = await api.get(`/applications/${applicationId}/notes`, { params: { cursor } })
     return response.data
   },
 
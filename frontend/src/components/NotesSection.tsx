@@ -1,5 +1,5 @@
 import { useState } from 'react'
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
+import { useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query'
 import { notesApi } from '@/api/notes'
 import { Button } from '@/components/ui/button'
 import { Textarea } from '@/components/ui/textarea'
@@ -17,24 +17,48 @@ import type { NoteResponse } from '@/types/note'
 
 interface NotesSectionProps {
   applicationId: number
+  initialNotes?: NoteResponse[]
 }
 
-export default function NotesSection({ applicationId }: NotesSectionProps) {
+export default function NotesSection({ applicationId, initialNotes }: NotesSectionProps) {
   const queryClient = useQueryClient()
   const [newNoteContent, setNewNoteContent] = useState('')
   const [editingNote, setEditingNote] = useState<NoteResponse | null>(null)
   const [editContent, setEditContent] = useState('')
   const [deleteNoteId, setDeleteNoteId] = useState<number | null>(null)
+  const [fullContent, setFullContent] = useState<Record<number, string>>({})
 
-  const { data: notes, isLoading } = useQuery({
+  const { data, isLoading, hasNextPage, fetchNextPage, isFetchingNextPage } = useInfiniteQuery({
     queryKey: ['notes', applicationId],
-    queryFn: () => notesApi.getByApplicationId(applicationId),
+    queryFn: ({ pageParam }) => notesApi.getByApplicationId(applicationId, pageParam),
+    initialPageParam: undefined as string | undefined,
+    getNextPageParam: (lastPage) => lastPage.nextCursor ?? undefined,
+    // Notes embedded in the application response are complete and save the extra round trip
+    initialData: initialNotes && {
+      pages: [{ notes: initialNotes, nextCursor: null }],
+      pageParams: [undefined],
+    },
+    staleTime: 30_000,
   })
+  const notes = data?.pages.flatMap((page) => page.notes)
+
+  // List items only carry a preview; the full body is fetched when a note is expanded or edited
+  const loadFullNote = (noteId: number) =>
+    queryClient.fetchQuery({
+      queryKey: ['notes', applicationId, noteId],
+      queryFn: () => notesApi.getById(applicationId, noteId),
+    })
+
+  const handleExpand = async (noteId: number) => {
+    const note = await loadFullNote(noteId)
+    setFullContent((prev) => ({ ...prev, [noteId]: note.content }))
+  }
 
   const createMutation = useMutation({
     mutationFn: (content: string) => notesApi.create(applicationId, { content }),
     onSuccess: () => {
       queryClient.invalidateQueries({ queryKey: ['notes', applicationId] })
+      queryClient.invalidateQueries({ queryKey: ['applications'] })
       setNewNoteContent('')
     },
   })
@@ -44,6 +68,8 @@ export default function NotesSection({ applicationId }: NotesSectionProps) {
       notesApi.update(applicationId, noteId, { content }),
     onSuccess: () => {
       queryClient.invalidateQueries({ queryKey: ['notes', applicationId] })
+      queryClient.invalidateQueries({ queryKey: ['applications'] })
+      setFullContent({})
       setEditingNote(null)
       setEditContent('')
     },
@@ -53,6 +79,7 @@ export default function NotesSection({ applicationId }: NotesSectionProps) {
     mutationFn: (noteId: number) => notesApi.delete(applicationId, noteId),
     onSuccess: () => {
       queryClient.invalidateQueries({ queryKey: ['notes', applicationId] })
+      queryClient.invalidateQueries({ queryKey: ['applications'] })
       setDeleteNoteId(null)
     },
   })
@@ -63,9 +90,12 @@ export default function NotesSection({ applicationId }: NotesSectionProps) {
     }
   }
 
-  const handleStartEdit = (note: NoteResponse) => {
+  const handleStartEdit = async (note: NoteResponse) => {
+    const content = note.truncated
+      ? fullContent[note.id] ?? (await loadFullNote(note.id)).content
+      : note.content
     setEditingNote(note)
-    setEditContent(note.content)
+    setEditContent(content)
   }
 
   const handleCancelEdit = () => {
@@ -191,7 +221,21 @@ export default function NotesSection({ applicationId }: NotesSectionProps) {
               ) : (
                 // View Mode
                 <div>
-                  <p className="text-sm text-zinc-900 dark:text-zinc-100 whitespace-pre-wrap mb-3">{note.content}</p>
+                  <p className="text-sm text-zinc-900 dark:text-zinc-100 whitespace-pre-wrap mb-3">
+                    {fullContent[note.id] ?? note.content}
+                    {note.truncated && fullContent[note.id] === undefined && (
+                      <>
+                        …{' '}
+                        <button
+                          type="button"
+                          onClick={() => handleExpand(note.id)}
+                          className="text-xs text-zinc-500 dark:text-zinc-400 hover:underline"
+                        >
+                          Show more
+                        </button>
+                      </>
+                    )}
+                  </p>
                   <div className="flex items-center justify-between">
                     <span className="text-xs text-zinc-400 dark:text-zinc-500">
                       {formatDate(note.createdAt)}
@@ -220,6 +264,18 @@ export default function NotesSection({ applicationId }: NotesSectionProps) {
               )}
             </div>
           ))}
+          {hasNextPage && (
+            <div className="flex justify-center">
+              <Button
+                variant="outline"
+                size="sm"
+                onClick={() => fetchNextPage()}
+                disabled={isFetchingNextPage}
+              >
+                {isFetchingNextPage ? 'Loading...' : 'Load more notes'}
+              </Button>
+            </div>
+          )}
         </div>
       )}
 
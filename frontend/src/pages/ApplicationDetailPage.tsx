@@ -28,7 +28,7 @@ export default function ApplicationDetailPage() {
 
   const { data: application, isLoading, error } = useQuery({
     queryKey: ['application', id],
-    queryFn: () => applicationsApi.getById(Number(id)),
+    queryFn: () => applicationsApi.getById(Number(id), { includeNotes: true }),
     enabled: !!id,
   })
 
@@ -259,7 +259,7 @@ export default function ApplicationDetailPage() {
 
         {/* Notes Section */}
         <div className="mt-6">
-          <NotesSection applicationId={application.id} />
+          <NotesSection applicationId={application.id} initialNotes={application.notes} />
         </div>
       </div>
 
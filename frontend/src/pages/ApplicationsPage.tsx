@@ -314,6 +314,7 @@ export default function ApplicationsPage() {
                   <TableHead className="text-xs font-medium text-zinc-500 dark:text-zinc-400">Salary</TableHead>
                   <TableHead className="text-xs font-medium text-zinc-500 dark:text-zinc-400">Status</TableHead>
                   <TableHead className="text-xs font-medium text-zinc-500 dark:text-zinc-400">Applied</TableHead>
+                  <TableHead className="text-xs font-medium text-zinc-500 dark:text-zinc-400">Notes</TableHead>
                   <TableHead className="text-xs font-medium text-zinc-500 dark:text-zinc-400"></TableHead>
                 </TableRow>
               </TableHeader>
@@ -376,6 +377,9 @@ export default function ApplicationsPage() {
                     <TableCell className="text-zinc-500 dark:text-zinc-400 text-sm">
                       {new Date(app.applicationDate).toLocaleDateString('en-US', { month: 'short', day: 'numeric', year: 'numeric' })}
                     </TableCell>
+                    <TableCell className="text-zinc-500 dark:text-zinc-400 text-sm" title={app.latestNotePreview}>
+                      {app.noteCount ? app.noteCount : <span className="text-zinc-400 dark:text-zinc-500 text-xs">—</span>}
+                    </TableCell>
                     <TableCell className="text-right">
                       <Button variant="ghost" size="sm" className="text-zinc-400 dark:text-zinc-500 hover:text-zinc-600 dark:hover:text-zinc-300">
                         <svg className="h-4 w-4" fill="none" viewBox="0 0 24 24" stroke="currentColor">
@@ -1,3 +1,5 @@
+import type { NoteResponse } from './note'
+
 export type ApplicationStatus = 'APPLIED' | 'INTERVIEWING' | 'OFFER' | 'ACCEPTED' | 'REJECTED' | 'WITHDRAWN'
 
 export type WorkMode = 'ONSITE' | 'REMOTE' | 'HYBRID'
@@ -17,6 +19,9 @@ export interface ApplicationResponse {
   nextStepDate?: string
   createdAt: string
   updatedAt: string
+  notes?: NoteResponse[]
+  noteCount?: number
+  latestNotePreview?: string
 }
 
 export interface ApplicationRequest {
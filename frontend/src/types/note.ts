@@ -3,6 +3,13 @@ export interface NoteResponse {
   content: string
   createdAt: string
   updatedAt: string
+  // Set on list items: content is only a preview of a longer note
+  truncated?: boolean
+}
+
+export interface NotePageResponse {
+  notes: NoteResponse[]
+  nextCursor: string | null
 }
 
 export interface NoteRequest {